@@ -159,6 +159,24 @@ public @interface Configuration {
      */
     boolean displayZeros() default true;
 
+    /**
+     * A boolean indicating if the widths of the autosized columns must be estimated from the length
+     * of the values while the data is parsed, instead of measuring the text of every cell of the sheet.
+     * Estimated widths are much faster to compute for big reports, but less accurate.
+     *
+     * @return {@code boolean}
+     */
+    boolean estimatedAutoSize() default false;
+
+    /**
+     * A boolean indicating if the special row formulas with a single SUM, AVERAGE, MIN, MAX or COUNT
+     * of a column must be computed while the data is parsed. The results are written as the cached values
+     * of the formulas, so they are shown without evaluating the workbook.
+     *
+     * @return {@code boolean}
+     */
+    boolean precomputedAggregates() default false;
+
     /**
      * An array of {@link SpecialRow}
      *
@@ -0,0 +1,19 @@
+package org.greports.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a converter class which keeps state between conversions.
+ * A new instance of a stateful converter is created for every converted value.
+ * Converters without this annotation are instantiated once and shared between threads,
+ * so they must be stateless.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@Documented
+public @interface StatefulConverter {
+}
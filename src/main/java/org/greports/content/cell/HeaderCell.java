@@ -9,6 +9,7 @@ public class HeaderCell extends AbstractReportCell implements PositionedCell {
     private final boolean autoSizeColumn;
     private final int columnWidth;
     private final Float position;
+    private final ValueType columnValueType;
 
     /**
      * @param position relative cell position
@@ -28,11 +29,24 @@ public class HeaderCell extends AbstractReportCell implements PositionedCell {
      * @param columnWidth column width
      */
     public HeaderCell(Float position, String title, String id, boolean autoSizeColumn, int columnWidth) {
+        this(position, title, id, autoSizeColumn, columnWidth, ValueType.PLAIN_VALUE);
+    }
+
+    /**
+     * @param position relative cell position
+     * @param title cell title
+     * @param id cell id
+     * @param autoSizeColumn {@code true} if the column should be autosized
+     * @param columnWidth column width
+     * @param columnValueType value type of the data cells of the column
+     */
+    public HeaderCell(Float position, String title, String id, boolean autoSizeColumn, int columnWidth, ValueType columnValueType) {
         super(title, CellFormats.TEXT, ValueType.PLAIN_VALUE);
         this.position = position;
         this.id = id;
         this.autoSizeColumn = autoSizeColumn;
         this.columnWidth = columnWidth;
+        this.columnValueType = columnValueType;
     }
 
     /**
@@ -47,7 +61,8 @@ public class HeaderCell extends AbstractReportCell implements PositionedCell {
             idPrefix,
             specialColumn.getId(),
             specialColumn.isAutoSizeColumn(),
-            specialColumn.getColumnWidth()
+            specialColumn.getColumnWidth(),
+            specialColumn.getValueType()
         );
     }
 
@@ -63,6 +78,13 @@ public class HeaderCell extends AbstractReportCell implements PositionedCell {
         return columnWidth;
     }
 
+    /**
+     * @return the value type of the data cells of the column, as declared by its annotation
+     */
+    public ValueType getColumnValueType() {
+        return columnValueType;
+    }
+
     @Override
     public Float getPosition() {
         return this.position;
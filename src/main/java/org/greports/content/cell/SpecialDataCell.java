@@ -9,6 +9,7 @@ public class SpecialDataCell extends AbstractReportCell implements ReportCell {
     private final short commentWidth;
     private final short commentHeight;
     private Object valuesById;
+    private Double formulaResult;
 
     public SpecialDataCell(final ValueType valueType, final Object value, final String format, final String targetId, final String comment, final short commentWidth, final short commentHeight, final int columnWidth) {
         super(value, format, valueType);
@@ -47,4 +48,22 @@ public class SpecialDataCell extends AbstractReportCell implements ReportCell {
         this.valuesById = valuesById;
         return this;
     }
+
+    /**
+     * Returns the result of the formula computed while parsing, or null if it is not known.
+     *
+     * @return {@link Double}
+     */
+    public Double getFormulaResult() {
+        return formulaResult;
+    }
+
+    /**
+     * @param formulaResult result of the formula written as its cached value
+     * @return {@link SpecialDataCell}
+     */
+    public SpecialDataCell setFormulaResult(final Double formulaResult) {
+        this.formulaResult = formulaResult;
+        return this;
+    }
 }
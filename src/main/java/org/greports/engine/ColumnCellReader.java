@@ -0,0 +1,336 @@
+package org.greports.engine;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.CellType;
+import org.greports.converters.NotImplementedConverter;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.utils.ErrorMessages;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * Reads the cells of a column as the parameter type of the column setter. The reader of the type is resolved once
+ * per column, so the type is not checked for every cell. The columns without setter converter nor validators set
+ * their values through a method handle of the setter, without boxing primitive values.
+ */
+final class ColumnCellReader {
+
+    private static final MethodType OBJECT_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Method setter;
+    private final ValueReader valueReader;
+    private final boolean primitive;
+    private final MethodHandle directSetter;
+
+    private ColumnCellReader(final Method setter, final boolean directSet) throws ReportEngineReflectionException {
+        final Class<?> parameterType = setter.getParameterTypes()[0];
+        this.setter = setter;
+        this.valueReader = ValueReader.forType(parameterType);
+        this.primitive = parameterType.isPrimitive();
+        this.directSetter = directSet ? toSetterHandle(setter, primitive ? MethodType.methodType(void.class, Object.class, parameterType) : OBJECT_SETTER_TYPE) : null;
+    }
+
+    /**
+     * @param block column block
+     * @return the reader of the column
+     * @throws ReportEngineReflectionException if the converter of the column cannot be instantiated or the setter cannot be accessed
+     */
+    static ColumnCellReader forColumn(final ReportBlock block) throws ReportEngineReflectionException {
+        final boolean directSet = NotImplementedConverter.class.equals(block.getResolvedSetterConverter().getConverterClass())
+                && block.getCellValidators().isEmpty() && block.getColumnValidators().isEmpty();
+        return new ColumnCellReader(block.getParentMethod(), directSet);
+    }
+
+    private static MethodHandle toSetterHandle(final Method setter, final MethodType setterType) throws ReportEngineReflectionException {
+        try {
+            setter.setAccessible(true);
+            return MethodHandles.lookup().unreflect(setter).asType(setterType);
+        } catch (IllegalAccessException e) {
+            throw new ReportEngineReflectionException(ErrorMessages.INV_METHOD_WITH_NO_ACCESS, e, setter.getDeclaringClass());
+        }
+    }
+
+    Method getSetter() {
+        return setter;
+    }
+
+    /**
+     * @param cell cell of the column
+     * @return the value of the cell as the parameter type of the setter. Formula cells are read as their formula,
+     * unless the parameter is a boolean
+     */
+    Object read(final ReportLoaderCell cell) {
+        if(!ValueReader.BOOLEAN.equals(valueReader) && CellType.FORMULA.equals(cell.getCellTypeEnum())) {
+            return cell.getCellFormula();
+        }
+        return valueReader.read(cell);
+    }
+
+    /**
+     * Sets the value of the cell in the instance if the column does not convert nor validate its values.
+     * @param instance instance of the column class
+     * @param cell cell of the column
+     * @return {@code false} if the value has to be read with {@link #read(ReportLoaderCell)} and set by reflection
+     * @throws ReportEngineReflectionException exception thrown by the setter
+     */
+    boolean set(final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+        if(directSetter == null || (!ValueReader.BOOLEAN.equals(valueReader) && CellType.FORMULA.equals(cell.getCellTypeEnum()))) {
+            return false;
+        }
+        if(primitive) {
+            return valueReader.setPrimitive(directSetter, instance, cell);
+        }
+        final Object value = valueReader.read(cell);
+        try {
+            directSetter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw setterError(e, instance);
+        }
+        return true;
+    }
+
+    private static ReportEngineReflectionException setterError(final Throwable e, final Object instance) {
+        return new ReportEngineReflectionException("Error executing method witch does not have access to the definition of the specified class", e, instance.getClass());
+    }
+
+    /**
+     * Reads the value of a cell as a type, as the cell getter of the type does. Primitive types are set without boxing.
+     */
+    private enum ValueReader {
+        BOOLEAN {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return cell.getBooleanCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final boolean value = cell.getBooleanCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        STRING {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                if(CellType.STRING.equals(cell.getCellTypeEnum())) {
+                    return cell.getStringCellValue();
+                } else if(CellType.NUMERIC.equals(cell.getCellTypeEnum())) {
+                    return Double.toString(cell.getNumericCellValue());
+                }
+                return null;
+            }
+        },
+        CHARACTER {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                final String string = cell.getStringCellValue();
+                return StringUtils.isEmpty(string) ? null : string.charAt(0);
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final String string = cell.getStringCellValue();
+                if(StringUtils.isEmpty(string)) {
+                    // A char cannot be null, so reflection rejects the value
+                    return false;
+                }
+                final char value = string.charAt(0);
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        DATE {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return cell.getDateCellValue();
+            }
+        },
+        DOUBLE {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final double value = cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        FLOAT {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return (float) cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final float value = (float) cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        LONG {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return (long) cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final long value = (long) cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        INTEGER {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return (int) cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final int value = (int) cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        SHORT {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return (short) cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final short value = (short) cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        BYTE {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return (byte) cell.getNumericCellValue();
+            }
+
+            @Override
+            boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+                final byte value = (byte) cell.getNumericCellValue();
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw setterError(e, instance);
+                }
+                return true;
+            }
+        },
+        BIG_DECIMAL {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return BigDecimal.valueOf(cell.getNumericCellValue());
+            }
+        },
+        BIG_INTEGER {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return BigInteger.valueOf((int) cell.getNumericCellValue());
+            }
+        },
+        /**
+         * Other number types, which are read as a double.
+         */
+        NUMBER {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return cell.getNumericCellValue();
+            }
+        },
+        /**
+         * Types which cannot be read from a cell, which are set to null.
+         */
+        NONE {
+            @Override
+            Object read(final ReportLoaderCell cell) {
+                return null;
+            }
+        };
+
+        abstract Object read(ReportLoaderCell cell);
+
+        /**
+         * @return {@code false} if the value cannot be set to the primitive parameter
+         */
+        boolean setPrimitive(final MethodHandle setter, final Object instance, final ReportLoaderCell cell) throws ReportEngineReflectionException {
+            return false;
+        }
+
+        static ValueReader forType(final Class<?> type) {
+            if(type.equals(Boolean.class) || type.equals(boolean.class)) {
+                return BOOLEAN;
+            } else if(type.equals(String.class)) {
+                return STRING;
+            } else if(type.equals(Character.class) || type.equals(char.class)) {
+                return CHARACTER;
+            } else if(type.equals(Date.class)) {
+                return DATE;
+            } else if(type.equals(Double.class) || type.equals(double.class)) {
+                return DOUBLE;
+            } else if(type.equals(Float.class) || type.equals(float.class)) {
+                return FLOAT;
+            } else if(type.equals(Long.class) || type.equals(long.class)) {
+                return LONG;
+            } else if(type.equals(Integer.class) || type.equals(int.class)) {
+                return INTEGER;
+            } else if(type.equals(Short.class) || type.equals(short.class)) {
+                return SHORT;
+            } else if(type.equals(Byte.class) || type.equals(byte.class)) {
+                return BYTE;
+            } else if(type.equals(BigDecimal.class)) {
+                return BIG_DECIMAL;
+            } else if(type.equals(BigInteger.class)) {
+                return BIG_INTEGER;
+            } else if(Number.class.isAssignableFrom(type)) {
+                return NUMBER;
+            }
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package org.greports.engine;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Font;
+import org.greports.content.cell.AbstractReportCell;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the widths of the autosized columns from the rendered length of their values, instead of
+ * measuring the text of every cell of the sheet. Lengths are tracked while the cells are parsed, counting
+ * the characters the cell format renders, and converted to widths with the average character width of the
+ * default font of the workbook.
+ */
+final class ColumnWidthEstimator {
+
+    private static final int MAX_COLUMN_WIDTH = 255 * RawDataInjector.WIDTH_MULTIPLIER;
+    private static final int GENERAL_NUMBER_MAX_LENGTH = 11;
+    private static final float PADDING = 1f;
+
+    /**
+     * Average width of a text character by font name, relative to the width of a digit of the font,
+     * which is the unit of the column widths.
+     */
+    private static final Map<String, Float> TEXT_CHARACTER_WIDTHS = new HashMap<>();
+    private static final float DEFAULT_TEXT_CHARACTER_WIDTH = 1f;
+
+    static {
+        TEXT_CHARACTER_WIDTHS.put("calibri", 0.95f);
+        TEXT_CHARACTER_WIDTHS.put("cambria", 1f);
+        TEXT_CHARACTER_WIDTHS.put("arial", 1.05f);
+        TEXT_CHARACTER_WIDTHS.put("helvetica", 1.05f);
+        TEXT_CHARACTER_WIDTHS.put("tahoma", 0.95f);
+        TEXT_CHARACTER_WIDTHS.put("verdana", 1.1f);
+        TEXT_CHARACTER_WIDTHS.put("times new roman", 0.9f);
+        TEXT_CHARACTER_WIDTHS.put("courier new", 1f);
+        TEXT_CHARACTER_WIDTHS.put("consolas", 1f);
+    }
+
+    private static final Map<String, NumberFormatLength> NUMBER_FORMATS = new ConcurrentHashMap<>();
+
+    private final float textCharacterWidth;
+
+    /**
+     * @param defaultFont default font of the workbook
+     */
+    ColumnWidthEstimator(final Font defaultFont) {
+        this.textCharacterWidth = TEXT_CHARACTER_WIDTHS.getOrDefault(defaultFont.getFontName().toLowerCase(Locale.ROOT), DEFAULT_TEXT_CHARACTER_WIDTH);
+    }
+
+    /**
+     * @param columnLength lengths tracked for the column
+     * @return the column width in units of 1/256th of a character width
+     */
+    int getColumnWidth(final ColumnLength columnLength) {
+        final float characters = Math.max(columnLength.textLength * textCharacterWidth, columnLength.numberLength);
+        return Math.min(MAX_COLUMN_WIDTH, Math.round((characters + PADDING) * RawDataInjector.WIDTH_MULTIPLIER));
+    }
+
+    /**
+     * Maximum rendered lengths of the values of a column. Numbers and dates are counted apart from text,
+     * as their characters are as wide as the digits of the font.
+     */
+    static final class ColumnLength implements Serializable {
+        private static final long serialVersionUID = -5163227414716187306L;
+
+        private int textLength;
+        private int numberLength;
+
+        void update(final AbstractReportCell cell) {
+            if(ValueType.FORMULA.equals(cell.getValueType()) || ValueType.TEMPLATED_FORMULA.equals(cell.getValueType())
+                    || ValueType.COLLECTED_FORMULA_VALUE.equals(cell.getValueType()) || ValueType.IGNORED_VALUE.equals(cell.getValueType())) {
+                return;
+            }
+            update(cell.getValue(), cell.getFormat());
+        }
+
+        void update(final Object value, final String format) {
+            if(value instanceof Number) {
+                numberLength = Math.max(numberLength, getNumberLength(((Number) value).doubleValue(), format));
+            } else if(value instanceof Date) {
+                numberLength = Math.max(numberLength, getDateLength(format));
+            } else if(value instanceof Boolean) {
+                textLength = Math.max(textLength, (Boolean) value ? 4 : 5);
+            } else if(value != null) {
+                textLength = Math.max(textLength, getTextLength(value.toString()));
+            }
+        }
+
+        void merge(final ColumnLength other) {
+            textLength = Math.max(textLength, other.textLength);
+            numberLength = Math.max(numberLength, other.numberLength);
+        }
+    }
+
+    private static int getTextLength(final String text) {
+        int maxLength = 0;
+        int lineStart = 0;
+        int lineEnd;
+        while((lineEnd = text.indexOf('\n', lineStart)) >= 0) {
+            maxLength = Math.max(maxLength, lineEnd - lineStart);
+            lineStart = lineEnd + 1;
+        }
+        return Math.max(maxLength, text.length() - lineStart);
+    }
+
+    private static int getNumberLength(final double value, final String format) {
+        if(Double.isNaN(value) || Double.isInfinite(value)) {
+            return GENERAL_NUMBER_MAX_LENGTH;
+        }
+        if(StringUtils.isEmpty(format) || "General".equalsIgnoreCase(format)) {
+            if(value == Math.rint(value) && Math.abs(value) < 1e11) {
+                return Long.toString((long) value).length();
+            }
+            return Math.min(GENERAL_NUMBER_MAX_LENGTH, BigDecimal.valueOf(value).stripTrailingZeros().toPlainString().length());
+        }
+        return NUMBER_FORMATS.computeIfAbsent(format, NumberFormatLength::new).getLength(value);
+    }
+
+    /**
+     * Dates are rendered with as many characters as their format, except for the names of months and days.
+     */
+    private static int getDateLength(final String format) {
+        if(StringUtils.isEmpty(format)) {
+            return GENERAL_NUMBER_MAX_LENGTH;
+        }
+        final String pattern = getFirstSection(format).toLowerCase(Locale.ROOT);
+        int length = getLiteralLength(pattern, true);
+        if(pattern.contains("mmmm")) {
+            length += 5;
+        }
+        if(pattern.contains("dddd")) {
+            length += 5;
+        }
+        if(pattern.contains("am/pm")) {
+            length -= 3;
+        }
+        return Math.max(length, 1);
+    }
+
+    private static String getFirstSection(final String format) {
+        boolean quoted = false;
+        for (int i = 0; i < format.length(); i++) {
+            final char character = format.charAt(i);
+            if(character == '"') {
+                quoted = !quoted;
+            } else if(character == '\\') {
+                i++;
+            } else if(character == ';' && !quoted) {
+                return format.substring(0, i);
+            }
+        }
+        return format;
+    }
+
+    /**
+     * @param pattern format section
+     * @param countPlaceholders {@code true} to count the characters out of quotes and brackets too
+     * @return the number of characters rendered as they are by the pattern. Currency symbols in brackets are counted.
+     */
+    private static int getLiteralLength(final String pattern, final boolean countPlaceholders) {
+        int length = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char character = pattern.charAt(i);
+            if(character == '"') {
+                final int end = pattern.indexOf('"', i + 1);
+                length += (end < 0 ? pattern.length() : end) - i - 1;
+                i = end < 0 ? pattern.length() : end;
+            } else if(character == '\\' || character == '_' || character == '*') {
+                // Escaped character, or the width of a character, or the repeated character
+                length += character == '*' ? 0 : 1;
+                i++;
+            } else if(character == '[') {
+                final int end = pattern.indexOf(']', i);
+                final String bracket = pattern.substring(i + 1, end < 0 ? pattern.length() : end);
+                if(bracket.startsWith("$")) {
+                    final int localeStart = bracket.indexOf('-');
+                    length += (localeStart < 0 ? bracket.length() : localeStart) - 1;
+                }
+                i = end < 0 ? pattern.length() : end;
+            } else if(countPlaceholders || "0#?.,%".indexOf(character) < 0) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Length rules of a number format, parsed once per format.
+     */
+    private static final class NumberFormatLength {
+        private final int literalsLength;
+        private final int integerDigits;
+        private final int decimalDigits;
+        private final int optionalDecimalDigits;
+        private final boolean decimalPoint;
+        private final boolean grouping;
+        private final boolean percentage;
+
+        private NumberFormatLength(final String format) {
+            final String pattern = getFirstSection(format);
+            this.literalsLength = getLiteralLength(pattern, false);
+            final String placeholders = removeLiterals(pattern);
+            final int pointIndex = placeholders.indexOf('.');
+            final String integerPart = pointIndex < 0 ? placeholders : placeholders.substring(0, pointIndex);
+            final String decimalPart = pointIndex < 0 ? StringUtils.EMPTY : placeholders.substring(pointIndex + 1);
+            this.integerDigits = StringUtils.countMatches(integerPart, '0');
+            this.decimalDigits = StringUtils.countMatches(decimalPart, '0');
+            this.optionalDecimalDigits = StringUtils.countMatches(decimalPart, '#') + StringUtils.countMatches(decimalPart, '?');
+            this.decimalPoint = pointIndex >= 0;
+            // A comma after the last digit placeholder scales the number instead of grouping the digits
+            this.grouping = integerPart.replaceAll(",+$", StringUtils.EMPTY).contains(",");
+            this.percentage = placeholders.indexOf('%') >= 0;
+        }
+
+        private static String removeLiterals(final String pattern) {
+            final StringBuilder placeholders = new StringBuilder();
+            for (int i = 0; i < pattern.length(); i++) {
+                final char character = pattern.charAt(i);
+                if(character == '"') {
+                    final int end = pattern.indexOf('"', i + 1);
+                    i = end < 0 ? pattern.length() : end;
+                } else if(character == '\\' || character == '_' || character == '*') {
+                    i++;
+                } else if(character == '[') {
+                    final int end = pattern.indexOf(']', i);
+                    i = end < 0 ? pattern.length() : end;
+                } else if("0#?.,%".indexOf(character) >= 0) {
+                    placeholders.append(character);
+                }
+            }
+            return placeholders.toString();
+        }
+
+        private int getLength(final double value) {
+            final double scaledValue = Math.abs(percentage ? value * 100 : value);
+            final BigDecimal decimal = BigDecimal.valueOf(scaledValue).stripTrailingZeros();
+            final int valueDecimals = Math.max(0, decimal.scale());
+            final int decimals = Math.max(decimalDigits, Math.min(decimalDigits + optionalDecimalDigits, valueDecimals));
+
+            final long integerValue = (long) Math.floor(scaledValue);
+            final int valueDigits = integerValue == 0 ? 0 : Long.toString(integerValue).length();
+            final int digits = Math.max(integerDigits, valueDigits);
+
+            int length = literalsLength + digits + decimals;
+            if(grouping && digits > 3) {
+                length += (digits - 1) / 3;
+            }
+            if(decimalPoint) {
+                length++;
+            }
+            if(percentage) {
+                length++;
+            }
+            if(value < 0) {
+                length++;
+            }
+            return length;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Stopwatch;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Level;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.Comment;
 import org.apache.poi.ss.usermodel.CreationHelper;
@@ -16,14 +17,17 @@ import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.greports.content.cell.SpecialDataCell;
 import org.greports.content.row.SpecialDataRow;
+import org.greports.exceptions.ReportEngineRuntimeException;
 import org.greports.services.LoggerService;
 import org.greports.utils.WorkbookUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 public abstract class DataInjector {
 
@@ -32,6 +36,11 @@ public abstract class DataInjector {
     protected final CreationHelper creationHelper;
     protected LoggerService loggerService;
     protected Map<String, XSSFCellStyle> formatsCache = new HashMap<>();
+    private final Map<String, FormulaTemplate> formulaTemplates = new HashMap<>();
+    private final List<CellRangeAddress> mergedRegions = new ArrayList<>();
+    private boolean validateMergedRegions;
+    private final List<Cell> formulaCells = new ArrayList<>();
+    private boolean collectFormulaCells;
 
     protected abstract void inject();
 
@@ -44,8 +53,62 @@ public abstract class DataInjector {
         this.loggerService = new LoggerService(this.getClass(), loggerEnabled, level);
     }
 
-    protected CellReference getCellReferenceForTargetId(Row row, String id) {
-        return new CellReference(row.getCell(reportData.getColumnIndexForId(id), Row.MissingCellPolicy.CREATE_NULL_AS_BLANK));
+    /**
+     * @param validateMergedRegions {@code true} to validate all the merged regions of the sheet after they are added.
+     *                              Intended for debugging, as the validation checks every pair of regions
+     * @return the injector
+     */
+    protected DataInjector setValidateMergedRegions(boolean validateMergedRegions) {
+        this.validateMergedRegions = validateMergedRegions;
+        return this;
+    }
+
+    /**
+     * @param collectFormulaCells {@code true} to keep the formula cells created by the injector, so only they are evaluated
+     * @return the injector
+     */
+    protected DataInjector setCollectFormulaCells(boolean collectFormulaCells) {
+        this.collectFormulaCells = collectFormulaCells;
+        return this;
+    }
+
+    /**
+     * @return the formula cells created by the injector if they are collected
+     */
+    protected List<Cell> getFormulaCells() {
+        return formulaCells;
+    }
+
+    protected void setCellFormula(Cell cell, String formula) {
+        cell.setCellFormula(formula);
+        addFormulaCell(cell);
+    }
+
+    private void addFormulaCell(Cell cell) {
+        if(collectFormulaCells) {
+            formulaCells.add(cell);
+        }
+    }
+
+    /**
+     * Collects all the formula cells of the sheet instead of the created ones, as the formulas of a template
+     * depend on the injected rows too.
+     */
+    protected void collectSheetFormulaCells(Sheet sheet) {
+        if(collectFormulaCells) {
+            formulaCells.clear();
+            for (final Row row : sheet) {
+                for (final Cell cell : row) {
+                    if(CellType.FORMULA.equals(cell.getCellTypeEnum())) {
+                        addFormulaCell(cell);
+                    }
+                }
+            }
+        }
+    }
+
+    protected CellReference getCellReferenceForTargetId(int rowIndex, String id) {
+        return new CellReference(rowIndex, reportData.getColumnIndexForId(id));
     }
 
     private void setCellComment(Sheet sheet, Cell cell, SpecialDataCell specialCell) {
@@ -77,10 +140,20 @@ public abstract class DataInjector {
     }
 
     protected String replaceFormulaIndexes(Row targetRow, String value) {
-        for (Map.Entry<String, Integer> entry : reportData.getTargetIndexes().entrySet()) {
-            value = value.replaceAll(entry.getKey(), this.getCellReferenceForTargetId(targetRow, entry.getKey()).formatAsString());
+        return getFormulaTemplate(value).render(targetRow.getRowNum());
+    }
+
+    /**
+     * @param formula formula referencing the columns of the report by id
+     * @return the template of the formula, compiled once for all the cells with the same formula
+     */
+    protected FormulaTemplate getFormulaTemplate(String formula) {
+        FormulaTemplate formulaTemplate = formulaTemplates.get(formula);
+        if(formulaTemplate == null) {
+            formulaTemplate = new FormulaTemplate(formula, reportData.getTargetIndexes());
+            formulaTemplates.put(formula, formulaTemplate);
         }
-        return value;
+        return formulaTemplate;
     }
 
     protected void adjustColumns(Sheet sheet) {
@@ -89,8 +162,16 @@ public abstract class DataInjector {
         loggerService.trace("Adjusting columns...", !autoSizedColumns.isEmpty());
         final Stopwatch adjustColumnsStopwatch = Stopwatch.createStarted();
 
+        // Estimated widths are set from the lengths tracked while parsing, without reading the cells of the sheet
+        final ColumnWidthEstimator widthEstimator = reportData.getConfiguration().isEstimatedAutoSize()
+                ? new ColumnWidthEstimator(sheet.getWorkbook().getFontAt((short) 0)) : null;
         for (Integer autoSizedColumn : autoSizedColumns) {
-            sheet.autoSizeColumn(autoSizedColumn + reportData.getConfiguration().getHorizontalOffset());
+            final int columnIndex = autoSizedColumn + reportData.getConfiguration().getHorizontalOffset();
+            if(widthEstimator != null) {
+                sheet.setColumnWidth(columnIndex, widthEstimator.getColumnWidth(reportData.getColumnLength(autoSizedColumn)));
+            } else {
+                sheet.autoSizeColumn(columnIndex);
+            }
         }
 
         loggerService.trace("Columns adjusted. Time: " + adjustColumnsStopwatch.stop(), !autoSizedColumns.isEmpty());
@@ -98,58 +179,85 @@ public abstract class DataInjector {
 
     protected void createSpecialRows(Sheet sheet) {
         final List<SpecialDataRow> specialRows = reportData.getSpecialRows();
-        Integer countBottomRows = 0;
         loggerService.trace("Creating special rows...", !specialRows.isEmpty());
         final Stopwatch specialRowsStopwatch = Stopwatch.createStarted();
+        setSpecialRowsIndexes();
         for(SpecialDataRow specialRow : specialRows) {
+            createSpecialRow(sheet, specialRow);
+        }
+        loggerService.trace("Special rows created. Time: " + specialRowsStopwatch.stop(), !specialRows.isEmpty());
+    }
+
+    protected void setSpecialRowsIndexes() {
+        Integer countBottomRows = 0;
+        for(SpecialDataRow specialRow : reportData.getSpecialRows()) {
             countBottomRows = specialRowSetRowIndex(countBottomRows, specialRow);
-            for(final SpecialDataCell specialCell : specialRow.getCells()) {
-                final ValueType valueType = specialCell.getValueType();
-                if(ValueType.TEMPLATED_FORMULA.equals(valueType)) {
-                    continue;
-                }
-                Row row = WorkbookUtils.getOrCreateRow(sheet, specialRow.getRowIndex());
-                final int columnIndexForTarget = reportData.getColumnIndexForId(specialCell.getTargetId()) + reportData.getConfiguration().getHorizontalOffset();
-                Cell cell = WorkbookUtils.getOrCreateCell(row, columnIndexForTarget);
-                createColumnsToMerge(sheet, row, columnIndexForTarget, specialCell.getColumnWidth());
+        }
+    }
+
+    protected void createSpecialRow(Sheet sheet, SpecialDataRow specialRow) {
+        for(final SpecialDataCell specialCell : specialRow.getCells()) {
+            final ValueType valueType = specialCell.getValueType();
+            if(ValueType.TEMPLATED_FORMULA.equals(valueType)) {
+                continue;
+            }
+            Row row = WorkbookUtils.getOrCreateRow(sheet, specialRow.getRowIndex());
+            final int columnIndexForTarget = reportData.getColumnIndexForId(specialCell.getTargetId()) + reportData.getConfiguration().getHorizontalOffset();
+            Cell cell = WorkbookUtils.getOrCreateCell(row, columnIndexForTarget);
+            createColumnsToMerge(sheet, row, columnIndexForTarget, specialCell.getColumnWidth());
 
-                if(!Arrays.asList(ValueType.FORMULA, ValueType.COLLECTED_FORMULA_VALUE, ValueType.TEMPLATED_FORMULA).contains(valueType)) {
-                    WorkbookUtils.setCellValue(cell, specialCell.getValue());
+            if(!Arrays.asList(ValueType.FORMULA, ValueType.COLLECTED_FORMULA_VALUE, ValueType.TEMPLATED_FORMULA).contains(valueType)) {
+                WorkbookUtils.setCellValue(cell, specialCell.getValue());
+            } else {
+                String formulaString = specialCell.getValue().toString();
+                if(ValueType.FORMULA.equals(valueType)) {
+                    createSpecialFormulaCell(specialCell, cell, formulaString);
                 } else {
-                    String formulaString = specialCell.getValue().toString();
-                    if(ValueType.FORMULA.equals(valueType)) {
-                        createSpecialFormulaCell(sheet, specialCell, cell, formulaString);
-                    } else {
-                        createCollectedFormulaValueCell(sheet, specialCell, cell, formulaString);
-                    }
+                    createCollectedFormulaValueCell(specialCell, cell, formulaString);
+                }
+                // Aggregates computed while parsing are written as the cached result of the formula
+                if(specialCell.getFormulaResult() != null && CellType.FORMULA.equals(cell.getCellTypeEnum())) {
+                    cell.setCellValue(specialCell.getFormulaResult());
                 }
-                setCellComment(sheet, cell, specialCell);
-                setCellFormat(cell, specialCell.getFormat());
             }
-            checkIfStickyRow(sheet, specialRow);
+            setCellComment(sheet, cell, specialCell);
+            setCellFormat(cell, specialCell.getFormat());
         }
-        loggerService.trace("Special rows created. Time: " + specialRowsStopwatch.stop(), !specialRows.isEmpty());
+        checkIfStickyRow(sheet, specialRow);
     }
 
-    private void createCollectedFormulaValueCell(Sheet sheet, SpecialDataCell specialCell, Cell cell, String formulaString) {
+    private void createCollectedFormulaValueCell(SpecialDataCell specialCell, Cell cell, String formulaString) {
         Map<String, List<Integer>> valuesById = (Map<String, List<Integer>>) specialCell.getValuesById();
-        if(valuesById != null) {
+        if(valuesById != null && !valuesById.isEmpty()) {
+            final String column = CellReference.convertNumToColString(reportData.getColumnIndexForId(specialCell.getTargetId()));
+            final Map<String, String> referencesById = new HashMap<>();
             for(final Map.Entry<String, List<Integer>> entry : valuesById.entrySet()) {
-                String id = entry.getKey();
-                List<Integer> rowIndexes = entry.getValue();
-                List<String> cellReferences = new ArrayList<>();
-                for(final Integer rowIndex : rowIndexes) {
-                    CellReference cellReference = this.getCellReferenceForTargetId(
-                            WorkbookUtils.getOrCreateRow(sheet, reportData.getDataRealStartRow() + rowIndex),
-                            specialCell.getTargetId()
-                    );
-                    cellReferences.add(cellReference.formatAsString() + ":" + cellReference.formatAsString());
+                referencesById.put(entry.getKey(), getCollectedRowsRanges(column, entry.getValue()));
+            }
+            setCellFormula(cell, new FormulaTemplate(formulaString, valuesById.keySet()).render(referencesById::get));
+        }
+    }
+
+    /**
+     * Consecutive collected rows are joined in a single range, so the formula references
+     * as many ranges as blocks of consecutive rows (A5:A120,A140:A300).
+     */
+    private String getCollectedRowsRanges(String column, List<Integer> rowIndexes) {
+        final int[] sortedRows = rowIndexes.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        final int rowNumberOffset = reportData.getDataRealStartRow() + 1;
+        final StringBuilder ranges = new StringBuilder();
+        int rangeStart = 0;
+        for (int i = 1; i <= sortedRows.length; i++) {
+            if(i == sortedRows.length || sortedRows[i] != sortedRows[i - 1] + 1) {
+                if(ranges.length() > 0) {
+                    ranges.append(',');
                 }
-                String joinedReferences = String.join(",", cellReferences);
-                formulaString = formulaString.replaceAll(id, joinedReferences);
-                cell.setCellFormula(formulaString);
+                ranges.append(column).append(sortedRows[rangeStart] + rowNumberOffset)
+                        .append(':').append(column).append(sortedRows[i - 1] + rowNumberOffset);
+                rangeStart = i;
             }
         }
+        return ranges.toString();
     }
 
     private void checkIfStickyRow(Sheet sheet, SpecialDataRow specialRow) {
@@ -172,20 +280,19 @@ public abstract class DataInjector {
         return countBottomRows;
     }
 
-    private void createSpecialFormulaCell(Sheet sheet, SpecialDataCell specialCell, Cell cell, String formulaString) {
-        if(sheet.getLastRowNum() >= reportData.getDataStartRow()) {
-            for (Map.Entry<String, Integer> entry : reportData.getTargetIndexes().entrySet()) {
-                CellReference firstCellReference = this.getCellReferenceForTargetId(
-                        WorkbookUtils.getOrCreateRow(sheet, reportData.getDataRealStartRow()),
-                        specialCell.getTargetId()
-                );
-                CellReference lastCellReference = this.getCellReferenceForTargetId(
-                        WorkbookUtils.getOrCreateRow(sheet,reportData.getDataRealStartRow() + reportData.getRowsCount() - 1),
-                        specialCell.getTargetId()
-                );
-                formulaString = formulaString.replaceAll(entry.getKey(), firstCellReference.formatAsString() + ":" + lastCellReference.formatAsString());
-            }
-            cell.setCellFormula(formulaString);
+    private void createSpecialFormulaCell(SpecialDataCell specialCell, Cell cell, String formulaString) {
+        if(reportData.getRowsCount() > 0) {
+            CellReference firstCellReference = this.getCellReferenceForTargetId(
+                    reportData.getDataRealStartRow(),
+                    specialCell.getTargetId()
+            );
+            CellReference lastCellReference = this.getCellReferenceForTargetId(
+                    reportData.getDataRealStartRow() + reportData.getRowsCount() - 1,
+                    specialCell.getTargetId()
+            );
+            final String range = firstCellReference.formatAsString() + ":" + lastCellReference.formatAsString();
+            // Every id of the formula references the data range of the target column
+            setCellFormula(cell, getFormulaTemplate(formulaString).render(id -> range));
         }
     }
 
@@ -194,8 +301,81 @@ public abstract class DataInjector {
             for (int i = 1; i < columnWidth; i++) {
                 WorkbookUtils.getOrCreateCell(row, cellIndex + i);
             }
-            sheet.addMergedRegion(new CellRangeAddress(row.getRowNum(), row.getRowNum(), cellIndex, cellIndex + columnWidth - 1));
+            mergedRegions.add(new CellRangeAddress(row.getRowNum(), row.getRowNum(), cellIndex, cellIndex + columnWidth - 1));
+        }
+    }
+
+    /**
+     * Adds the regions collected by {@link #createColumnsToMerge(Sheet, Row, int, int)} to the sheet.
+     * The regions are single row regions, so they are checked against each other once sorted by row and column,
+     * and against the regions the sheet already had (i.e. regions of a template), and then added without
+     * the overlap check of every single add. If any of them intersects, every region is added with the checked add.
+     */
+    protected void addMergedRegions(final Sheet sheet) {
+        if(mergedRegions.isEmpty()) {
+            return;
+        }
+        loggerService.trace("Adding merged regions...");
+        final Stopwatch mergedRegionsStopwatch = Stopwatch.createStarted();
+
+        if(!regionsIntersect(mergedRegions) && !regionsIntersect(mergedRegions, sheet.getMergedRegions())) {
+            for (final CellRangeAddress mergedRegion : mergedRegions) {
+                sheet.addMergedRegionUnsafe(mergedRegion);
+            }
+        } else {
+            for (final CellRangeAddress mergedRegion : mergedRegions) {
+                sheet.addMergedRegion(mergedRegion);
+            }
+        }
+        mergedRegions.clear();
+
+        if(validateMergedRegions) {
+            try {
+                sheet.validateMergedRegions();
+            } catch (IllegalStateException e) {
+                throw new ReportEngineRuntimeException("Invalid merged regions in sheet " + sheet.getSheetName(), e, this.getClass());
+            }
+        }
+        loggerService.trace("Merged regions added. Time: " + mergedRegionsStopwatch.stop());
+    }
+
+    private static boolean regionsIntersect(final List<CellRangeAddress> regions) {
+        regions.sort(Comparator.comparingInt(CellRangeAddress::getFirstRow).thenComparingInt(CellRangeAddress::getFirstColumn));
+        for (int i = 1; i < regions.size(); i++) {
+            final CellRangeAddress previous = regions.get(i - 1);
+            final CellRangeAddress current = regions.get(i);
+            if(previous.getFirstRow() == current.getFirstRow() && previous.getLastColumn() >= current.getFirstColumn()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sweeps the single row regions, already sorted by row by the check between them, and the regions of the sheet
+     * sorted by their first row.
+     * Only the regions of the sheet which contain the row of a region are compared with it.
+     */
+    private static boolean regionsIntersect(final List<CellRangeAddress> regions, final List<CellRangeAddress> sheetRegions) {
+        final List<CellRangeAddress> sortedSheetRegions = new ArrayList<>(sheetRegions);
+        sortedSheetRegions.sort(Comparator.comparingInt(CellRangeAddress::getFirstRow));
+        final PriorityQueue<CellRangeAddress> rowSheetRegions = new PriorityQueue<>(Comparator.comparingInt(CellRangeAddress::getLastRow));
+        int nextSheetRegion = 0;
+        for (final CellRangeAddress region : regions) {
+            final int row = region.getFirstRow();
+            while(nextSheetRegion < sortedSheetRegions.size() && sortedSheetRegions.get(nextSheetRegion).getFirstRow() <= row) {
+                rowSheetRegions.add(sortedSheetRegions.get(nextSheetRegion++));
+            }
+            while(!rowSheetRegions.isEmpty() && rowSheetRegions.peek().getLastRow() < row) {
+                rowSheetRegions.poll();
+            }
+            for (final CellRangeAddress sheetRegion : rowSheetRegions) {
+                if(sheetRegion.getFirstColumn() <= region.getLastColumn() && region.getFirstColumn() <= sheetRegion.getLastColumn()) {
+                    return true;
+                }
+            }
         }
+        return false;
     }
 
 }
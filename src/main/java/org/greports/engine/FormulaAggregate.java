@@ -0,0 +1,92 @@
+package org.greports.engine;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.greports.content.cell.DataCell;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Result of a special row formula which aggregates a column of the report with a single SUM, AVERAGE, MIN, MAX
+ * or COUNT function. The result is accumulated while the rows are parsed, so it can be written as the cached
+ * result of the formula. Values are aggregated as Excel does: only numbers and dates are taken into account.
+ */
+final class FormulaAggregate {
+
+    private static final Pattern AGGREGATE_FORMULA = Pattern.compile("^\\s*(SUM|AVERAGE|MIN|MAX|COUNT)\\s*\\(\\s*([^(),]+?)\\s*\\)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    private final String function;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private int count;
+    private boolean computable = true;
+
+    private FormulaAggregate(final String function) {
+        this.function = function.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * @param formula formula of a special row cell
+     * @param isColumnId returns {@code true} if the argument of the formula is replaced by the referenced column
+     * @return the aggregate of the formula, or null if the formula is not a single aggregate of a column
+     */
+    static FormulaAggregate forFormula(final String formula, final Predicate<String> isColumnId) {
+        final Matcher matcher = AGGREGATE_FORMULA.matcher(formula);
+        if(matcher.matches() && isColumnId.test(matcher.group(2))) {
+            return new FormulaAggregate(matcher.group(1));
+        }
+        return null;
+    }
+
+    void add(final DataCell cell) {
+        if(ValueType.FORMULA.equals(cell.getValueType()) || ValueType.TEMPLATED_FORMULA.equals(cell.getValueType())) {
+            // The value of a formula is not known until the workbook is evaluated
+            computable = false;
+            return;
+        }
+        final Object value = cell.getValue();
+        if(value instanceof Number) {
+            add(((Number) value).doubleValue());
+        } else if(value instanceof Date) {
+            add(DateUtil.getExcelDate((Date) value));
+        }
+    }
+
+    private void add(final double value) {
+        if(Double.isNaN(value) || Double.isInfinite(value)) {
+            computable = false;
+            return;
+        }
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        count++;
+    }
+
+    /**
+     * @return the result of the formula for the values added, or null if it is not known or it is an error
+     */
+    Double getResult() {
+        if(!computable) {
+            return null;
+        }
+        switch(function) {
+            case "SUM":
+                return sum;
+            case "AVERAGE":
+                return count > 0 ? sum / count : null;
+            case "MIN":
+                return count > 0 ? min : 0d;
+            case "MAX":
+                return count > 0 ? max : 0d;
+            case "COUNT":
+                return (double) count;
+            default:
+                return null;
+        }
+    }
+}
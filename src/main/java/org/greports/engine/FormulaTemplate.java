@@ -0,0 +1,123 @@
+package org.greports.engine;
+
+import org.apache.poi.ss.util.CellReference;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A formula split once into literal parts and column id slots, so the formula of every row
+ * is rendered without regular expressions. At every position the longest matching id is taken,
+ * and the rendered references are not matched again.
+ */
+final class FormulaTemplate {
+
+    private final String[] literals;
+    private final String[] ids;
+    private final String[] columns;
+    private final int literalsLength;
+
+    /**
+     * @param formula formula referencing columns by id
+     * @param columnIndexes column index by id of the ids which can be referenced
+     */
+    FormulaTemplate(final String formula, final Map<String, Integer> columnIndexes) {
+        this(formula, columnIndexes.keySet(), columnIndexes);
+    }
+
+    /**
+     * Creates a template which can only be rendered with {@link #render(Function)}.
+     * @param formula formula with ids
+     * @param ids ids to replace
+     */
+    FormulaTemplate(final String formula, final Collection<String> ids) {
+        this(formula, ids, null);
+    }
+
+    private FormulaTemplate(final String formula, final Collection<String> replacedIds, final Map<String, Integer> columnIndexes) {
+        final List<String> sortedIds = sortByLengthDesc(replacedIds);
+        final List<String> literalsList = new ArrayList<>();
+        final List<String> idsList = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+        while(index < formula.length()) {
+            final String id = matchId(formula, index, sortedIds);
+            if(id != null) {
+                literalsList.add(formula.substring(literalStart, index));
+                idsList.add(id);
+                index += id.length();
+                literalStart = index;
+            } else {
+                index++;
+            }
+        }
+        literalsList.add(formula.substring(literalStart));
+
+        this.literals = literalsList.toArray(new String[0]);
+        this.ids = idsList.toArray(new String[0]);
+        this.columns = columnIndexes != null ? new String[ids.length] : null;
+        for (int i = 0; columns != null && i < ids.length; i++) {
+            columns[i] = CellReference.convertNumToColString(columnIndexes.get(ids[i]));
+        }
+        int length = 0;
+        for (final String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * @param rowIndex zero-based row index
+     * @return the formula with every id replaced by the relative reference of its column in the row
+     */
+    String render(final int rowIndex) {
+        if(ids.length == 0) {
+            return literals[0];
+        }
+        final String rowNumber = Integer.toString(rowIndex + 1);
+        final StringBuilder builder = new StringBuilder(literalsLength + ids.length * (rowNumber.length() + 3));
+        for (int i = 0; i < ids.length; i++) {
+            builder.append(literals[i]).append(columns[i]).append(rowNumber);
+        }
+        return builder.append(literals[ids.length]).toString();
+    }
+
+    /**
+     * @param references returns the text which replaces an id
+     * @return the formula with every id replaced
+     */
+    String render(final Function<String, String> references) {
+        if(ids.length == 0) {
+            return literals[0];
+        }
+        final StringBuilder builder = new StringBuilder(literalsLength + ids.length * 16);
+        for (int i = 0; i < ids.length; i++) {
+            builder.append(literals[i]).append(references.apply(ids[i]));
+        }
+        return builder.append(literals[ids.length]).toString();
+    }
+
+    private static List<String> sortByLengthDesc(final Collection<String> ids) {
+        final List<String> sorted = new ArrayList<>();
+        for (final String id : ids) {
+            if(!id.isEmpty()) {
+                sorted.add(id);
+            }
+        }
+        sorted.sort(Comparator.comparingInt(String::length).reversed());
+        return sorted;
+    }
+
+    private static String matchId(final String formula, final int index, final List<String> sortedIds) {
+        for (final String id : sortedIds) {
+            if(formula.startsWith(id, index)) {
+                return id;
+            }
+        }
+        return null;
+    }
+}
@@ -4,35 +4,46 @@ import com.google.common.base.Stopwatch;
 import org.apache.commons.collections4.map.HashedMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.log4j.Level;
+import org.apache.poi.ss.usermodel.BorderFormatting;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.ConditionalFormattingRule;
+import org.apache.poi.ss.usermodel.FontFormatting;
+import org.apache.poi.ss.usermodel.PatternFormatting;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.SheetConditionalFormatting;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.xssf.usermodel.extensions.XSSFCellBorder;
 import org.greports.content.cell.DataCell;
 import org.greports.content.cell.HeaderCell;
+import org.greports.content.cell.SpecialDataCell;
 import org.greports.content.header.ReportHeader;
 import org.greports.content.row.DataRow;
+import org.greports.content.row.SpecialDataRow;
+import org.greports.exceptions.ReportEngineRuntimeException;
 import org.greports.positioning.HorizontalRange;
 import org.greports.positioning.VerticalRange;
+import org.greports.styles.ConditionalFormattingStyle;
 import org.greports.styles.ReportStyle;
-import org.greports.styles.interfaces.StripedRows;
 import org.greports.styles.stylesbuilders.ReportStylesBuilder;
 import org.greports.utils.Utils;
 import org.greports.utils.WorkbookUtils;
 
 import java.awt.*;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.function.Predicate;
 
 class RawDataInjector extends DataInjector {
@@ -40,29 +51,55 @@ class RawDataInjector extends DataInjector {
     public static final int WIDTH_MULTIPLIER = 256;
 
     private final ReportData data;
-    private Map<Pair<ReportStyle, String>, XSSFCellStyle> stylesCache = new HashMap<>();
+    private final SXSSFWorkbook streamingWorkbook;
+    private final WorkbookStylesCache stylesCache;
+    private StreamedRowsGroups streamedRowsGroups;
 
-    public RawDataInjector(XSSFWorkbook currentWorkbook, ReportData reportData, boolean loggerEnabled, Level level) {
+    public RawDataInjector(XSSFWorkbook currentWorkbook, ReportData reportData, WorkbookStylesCache stylesCache, boolean loggerEnabled, Level level) {
         super(currentWorkbook, reportData, loggerEnabled, level);
         this.data = reportData;
+        this.streamingWorkbook = null;
+        this.stylesCache = stylesCache;
+    }
+
+    /**
+     * Creates an injector which writes the sheet through the sliding row window of
+     * the {@link SXSSFWorkbook}. Styles and fonts are created in the backing {@link XSSFWorkbook}.
+     *
+     * @param streamingWorkbook streaming workbook
+     * @param reportData report data to inject
+     * @param stylesCache styles and fonts of the workbook
+     * @param loggerEnabled is logger enabled
+     * @param level logger level
+     */
+    public RawDataInjector(SXSSFWorkbook streamingWorkbook, ReportData reportData, WorkbookStylesCache stylesCache, boolean loggerEnabled, Level level) {
+        super(streamingWorkbook.getXSSFWorkbook(), reportData, loggerEnabled, level);
+        this.data = reportData;
+        this.streamingWorkbook = streamingWorkbook;
+        this.stylesCache = stylesCache;
     }
 
     @Override
     public void inject() {
-        Sheet sheet = WorkbookUtils.getOrCreateSheet(currentWorkbook, data.getSheetName());
-        stylesCache = new HashMap<>();
+        Sheet sheet = WorkbookUtils.getOrCreateSheet(streamingWorkbook != null ? streamingWorkbook : currentWorkbook, data.getSheetName());
         injectData(sheet);
     }
 
     protected void injectData(Sheet sheet) {
         setSheetAttributes(sheet);
+        if(streamingWorkbook != null) {
+            injectStreamingData((SXSSFSheet) sheet);
+            return;
+        }
+        data.loadPendingRows();
         createHeader(sheet);
         createDataRows(sheet);
         super.createSpecialRows(sheet);
+        super.addMergedRegions(sheet);
         createRowsGroups(sheet);
         createColumnsGroups(sheet);
-        addStripedRows(sheet);
         addStyles(sheet);
+        addConditionalFormattingStyles(sheet);
         super.adjustColumns(sheet);
     }
 
@@ -74,6 +111,207 @@ class RawDataInjector extends DataInjector {
         loggerService.trace("Sheet configuration applied");
     }
 
+    /**
+     * Writes the rows in ascending order, so every row is completed (stripes, styles and groups)
+     * before it leaves the row window and is flushed to disk. Rows of a pull-based report are
+     * parsed and written one chunk at a time.
+     */
+    private void injectStreamingData(SXSSFSheet sheet) {
+        loggerService.trace("Streaming rows...");
+        final Stopwatch streamingStopwatch = Stopwatch.createStarted();
+
+        // Estimated widths do not need the rows, so columns are only tracked for the measured autosize
+        if(!data.getConfiguration().isEstimatedAutoSize()) {
+            for (Integer autoSizedColumn : data.getAutoSizedColumns()) {
+                sheet.trackColumnForAutoSizing(autoSizedColumn + data.getConfiguration().getHorizontalOffset());
+            }
+        }
+
+        super.setSpecialRowsIndexes();
+        List<SpecialDataRow> specialRows = getSortedSpecialRows();
+        if(data.hasPendingRows()) {
+            checkTopSpecialRowsFormulas(specialRows);
+        }
+        streamedRowsGroups = new StreamedRowsGroups();
+        streamedRowsGroups.addGroups(data.getGroupedRows(), data.hasPendingRows() ? data.getOpenGroupStart() : null);
+        final List<ReportStyle> styles = getResolvedStyles(data.getStyles().getReportStylesBuilder(), getExpectedLastRowNum());
+        final ReportStylesIndex stylesIndex = new ReportStylesIndex(styles);
+
+        int nextSpecialRow = 0;
+        if(data.isCreateHeader()) {
+            final int headerRowIndex = data.getHeader().getRowIndex() + data.getConfiguration().getVerticalOffset();
+            nextSpecialRow = streamSpecialRows(sheet, specialRows, nextSpecialRow, headerRowIndex, stylesIndex);
+            createHeader(sheet);
+            finishStreamedRow(sheet, sheet.getRow(headerRowIndex), stylesIndex);
+        }
+        nextSpecialRow = streamSpecialRows(sheet, specialRows, nextSpecialRow, data.getDataRealStartRow(), stylesIndex);
+
+        for (int i = 0; i < data.getDataRows().size(); i++) {
+            final Row row = WorkbookUtils.getOrCreateRow(sheet, data.getDataRealStartRow() + i);
+            createRowCells(sheet, row, data.getDataRow(i));
+            finishStreamedRow(sheet, row, stylesIndex);
+        }
+
+        if(data.hasPendingRows()) {
+            streamPendingRows(sheet, styles);
+            // Special rows placed after the data are known once every chunk has been parsed
+            super.setSpecialRowsIndexes();
+            specialRows = getSortedSpecialRows();
+            nextSpecialRow = 0;
+            while(nextSpecialRow < specialRows.size() && specialRows.get(nextSpecialRow).getRowIndex() < data.getDataRealStartRow()) {
+                nextSpecialRow++;
+            }
+        }
+
+        streamSpecialRows(sheet, specialRows, nextSpecialRow, Integer.MAX_VALUE, stylesIndex);
+        super.addMergedRegions(sheet);
+        createColumnsGroups(sheet);
+        addConditionalFormattingStyles(sheet);
+        for (ReportStyle reportStyle : styles) {
+            applyColumnWidth(sheet, reportStyle);
+        }
+        super.adjustColumns(sheet);
+
+        loggerService.trace("Rows streamed. Time: " + streamingStopwatch.stop());
+    }
+
+    private void streamPendingRows(SXSSFSheet sheet, List<ReportStyle> styles) {
+        int rowIndex = data.getDataRealStartRow() + data.getDataRows().size();
+        while(data.hasPendingRows()) {
+            final ReportData chunk = data.nextRowsChunk();
+            streamedRowsGroups.addGroups(chunk.getGroupedRows(), data.hasPendingRows() ? chunk.getOpenGroupStart() : null);
+            final List<ReportStyle> chunkStyles = new ArrayList<>(styles);
+            chunkStyles.addAll(getResolvedStyles(chunk.getStyles().getReportStylesBuilder(), Integer.MAX_VALUE));
+            final ReportStylesIndex chunkStylesIndex = new ReportStylesIndex(chunkStyles);
+            for (final DataRow dataRow : chunk.getDataRows()) {
+                final Row row = WorkbookUtils.getOrCreateRow(sheet, rowIndex++);
+                createRowCells(sheet, row, dataRow);
+                finishStreamedRow(sheet, row, chunkStylesIndex);
+            }
+        }
+    }
+
+    /**
+     * The special rows above the data are written before the chunks of a pull-based report are parsed,
+     * so their formulas could only reference the rows parsed so far.
+     */
+    private void checkTopSpecialRowsFormulas(List<SpecialDataRow> specialRows) {
+        for (SpecialDataRow specialRow : specialRows) {
+            if(specialRow.getRowIndex() >= data.getDataRealStartRow()) {
+                return;
+            }
+            for (SpecialDataCell specialCell : specialRow.getCells()) {
+                if(ValueType.FORMULA.equals(specialCell.getValueType()) || ValueType.COLLECTED_FORMULA_VALUE.equals(specialCell.getValueType())) {
+                    throw new ReportEngineRuntimeException(String.format(
+                            "The special row %d above the data has formulas over the data rows, which cannot be streamed from a pull-based input. Place the row after the data or disable the streaming mode",
+                            specialRow.getRowIndex()
+                    ), this.getClass());
+                }
+            }
+        }
+    }
+
+    private List<SpecialDataRow> getSortedSpecialRows() {
+        final List<SpecialDataRow> specialRows = new ArrayList<>(data.getSpecialRows());
+        specialRows.sort(Comparator.comparing(SpecialDataRow::getRowIndex));
+        return specialRows;
+    }
+
+    private int streamSpecialRows(SXSSFSheet sheet, List<SpecialDataRow> specialRows, int from, int toRowIndex, ReportStylesIndex stylesIndex) {
+        int index = from;
+        for (; index < specialRows.size() && specialRows.get(index).getRowIndex() < toRowIndex; index++) {
+            final SpecialDataRow specialRow = specialRows.get(index);
+            super.createSpecialRow(sheet, specialRow);
+            finishStreamedRow(sheet, sheet.getRow(specialRow.getRowIndex()), stylesIndex);
+        }
+        return index;
+    }
+
+    private void finishStreamedRow(SXSSFSheet sheet, Row row, ReportStylesIndex stylesIndex) {
+        if(row != null) {
+            streamedRowsGroups.groupRow(sheet, row);
+            applyRowStyles(row, stylesIndex);
+            streamedRowsGroups.collapseGroupsEndingAt(sheet, row);
+        }
+    }
+
+    /**
+     * Row groups of the streamed rows sorted by their first row. The rows are streamed in ascending order,
+     * so the groups are walked with a cursor and only the ends of the groups containing the current row are kept.
+     * A group still open at the end of a chunk of a pull-based report outlines the rows of the chunk from its first row,
+     * and the rest of its rows are outlined once a later chunk closes it. A group which is never closed is not
+     * outlined in the rows of the last chunk, but the rows of the previous chunks are already written.
+     */
+    private final class StreamedRowsGroups {
+        private final List<Pair<Integer, Integer>> groups = new ArrayList<>();
+        private final PriorityQueue<Integer> openGroupsEnds = new PriorityQueue<>();
+        private int nextGroup;
+        private Integer openEndedGroupStart;
+
+        /**
+         * @param newGroups groups closed by the rows to stream. Groups started by the previous rows are outlined from the next row
+         * @param openGroupStart first row of the group which is not closed by the rows to stream, or null
+         */
+        private void addGroups(List<Pair<Integer, Integer>> newGroups, Integer openGroupStart) {
+            groups.subList(0, nextGroup).clear();
+            nextGroup = 0;
+            groups.addAll(newGroups);
+            groups.sort(Comparator.comparingInt(RawDataInjector.this::getGroupStartRow));
+            openEndedGroupStart = openGroupStart != null ? getGroupRow(openGroupStart) : null;
+        }
+
+        private void groupRow(SXSSFSheet sheet, Row row) {
+            final int rowNum = row.getRowNum();
+            while(nextGroup < groups.size() && getGroupStartRow(groups.get(nextGroup)) <= rowNum) {
+                openGroupsEnds.add(getGroupEndRow(groups.get(nextGroup++)));
+            }
+            while(!openGroupsEnds.isEmpty() && openGroupsEnds.peek() < rowNum) {
+                openGroupsEnds.poll();
+            }
+            // Every group containing the row adds an outline level
+            final int groupsCount = openGroupsEnds.size() + (openEndedGroupStart != null && openEndedGroupStart <= rowNum ? 1 : 0);
+            for (int i = 0; i < groupsCount; i++) {
+                sheet.groupRow(rowNum, rowNum);
+            }
+            if(groupsCount > 0 && data.isGroupedRowsDefaultCollapsed()) {
+                row.setZeroHeight(true);
+            }
+        }
+
+        /**
+         * Marks the summary row after a collapsed group as collapsed, as {@link Sheet#setRowGroupCollapsed(int, boolean)} does.
+         * The summary row is created if it does not exist yet.
+         */
+        private void collapseGroupsEndingAt(SXSSFSheet sheet, Row row) {
+            if(data.isGroupedRowsDefaultCollapsed() && openGroupsEnds.contains(row.getRowNum())) {
+                ((SXSSFRow) WorkbookUtils.getOrCreateRow(sheet, row.getRowNum() + 1)).setCollapsed(true);
+            }
+        }
+    }
+
+    private int getExpectedLastRowNum() {
+        int lastRowNum = data.isCreateHeader() ? data.getHeader().getRowIndex() + data.getConfiguration().getVerticalOffset() : 0;
+        if(data.getRowsCount() > 0) {
+            lastRowNum = Math.max(lastRowNum, data.getDataRealStartRow() + data.getRowsCount() - 1);
+        }
+        for (SpecialDataRow specialRow : data.getSpecialRows()) {
+            lastRowNum = Math.max(lastRowNum, specialRow.getRowIndex());
+        }
+        return lastRowNum;
+    }
+
+    private List<ReportStyle> getResolvedStyles(ReportStylesBuilder reportStylesBuilder, int lastRowNum) {
+        if(reportStylesBuilder == null) {
+            return new ArrayList<>();
+        }
+        final List<ReportStyle> styles = reportStylesBuilder.getStyles();
+        for (ReportStyle reportStyle : styles) {
+            checkRange(reportStyle.getRange().getVerticalRange(), lastRowNum);
+            checkRange(reportStyle.getRange().getHorizontalRange(), reportData);
+        }
+        return styles;
+    }
+
     private void createHeader(Sheet sheet) {
         loggerService.trace("Creating header...", data.isCreateHeader());
         final Stopwatch headersStopwatch = Stopwatch.createStarted();
@@ -111,35 +349,38 @@ class RawDataInjector extends DataInjector {
         loggerService.trace("Creating data rows...");
         final Stopwatch dataRowsStopwatch = Stopwatch.createStarted();
 
+        for (int i = 0; i < data.getDataRows().size(); i++) {
+            final Row row = WorkbookUtils.getOrCreateRow(sheet, data.getDataRealStartRow() + i);
+            createRowCells(sheet, row, data.getDataRow(i));
+        }
+
+        loggerService.trace("Data rows created. Time: " + dataRowsStopwatch.stop());
+    }
+
+    private void createRowCells(Sheet sheet, Row row, DataRow dataRow) {
         // First create cells with data
         final Predicate<DataCell> dataCellsPredicate = (DataCell dataCell) -> !dataCell.getValueType().equals(ValueType.FORMULA) && !dataCell.getValueType().equals(ValueType.TEMPLATED_FORMULA);
         // After create cells with formulas to can evaluate them
         final Predicate<DataCell> formulaCellsPredicate = (DataCell dataCell) -> dataCell.getValueType().equals(ValueType.FORMULA);
-        this.createCells(sheet, dataCellsPredicate);
-        this.createCells(sheet, formulaCellsPredicate);
-
-        loggerService.trace("Data rows created. Time: " + dataRowsStopwatch.stop());
+        this.createCells(sheet, row, dataRow, dataCellsPredicate);
+        this.createCells(sheet, row, dataRow, formulaCellsPredicate);
     }
 
-    private void createCells(Sheet sheet, Predicate<DataCell> predicate) {
-        for (int i = 0; i < data.getDataRows().size(); i++) {
-            final DataRow dataRow = data.getDataRow(i);
-            Row row = WorkbookUtils.getOrCreateRow(sheet, data.getDataRealStartRow() + i);
-            int mergedCellsCount = 0;
-            for (int y = 0; y < dataRow.getCells().size(); y++) {
-                final DataCell dataCell = dataRow.getCell(y);
-                if(predicate.test(dataCell)) {
-                    createCell(
-                            sheet,
-                            row,
-                            dataCell,
-                            dataCell.isPhysicalPosition()
-                                    ? dataCell.getPosition().intValue()
-                                    : mergedCellsCount + data.getConfiguration().getHorizontalOffset() + y
-                    );
-                    if(dataCell.getColumnWidth() > 1) {
-                        mergedCellsCount += dataCell.getColumnWidth() - 1;
-                    }
+    private void createCells(Sheet sheet, Row row, DataRow dataRow, Predicate<DataCell> predicate) {
+        int mergedCellsCount = 0;
+        for (int y = 0; y < dataRow.getCells().size(); y++) {
+            final DataCell dataCell = dataRow.getCell(y);
+            if(predicate.test(dataCell)) {
+                createCell(
+                        sheet,
+                        row,
+                        dataCell,
+                        dataCell.isPhysicalPosition()
+                                ? dataCell.getPosition().intValue()
+                                : mergedCellsCount + data.getConfiguration().getHorizontalOffset() + y
+                );
+                if(dataCell.getColumnWidth() > 1) {
+                    mergedCellsCount += dataCell.getColumnWidth() - 1;
                 }
             }
         }
@@ -170,7 +411,7 @@ class RawDataInjector extends DataInjector {
             final Cell cell = row.createCell(columnIndex, cellType);
             String formulaString = dataCell.getValue().toString();
             formulaString = replaceFormulaIndexes(row, formulaString);
-            cell.setCellFormula(formulaString);
+            setCellFormula(cell, formulaString);
             setCellFormat(cell, dataCell.getFormat());
         }
 
@@ -184,14 +425,26 @@ class RawDataInjector extends DataInjector {
         final Stopwatch rowsGroup = Stopwatch.createStarted();
 
         for(final Pair<Integer, Integer> groupedRow : groupedRows) {
-            int startGroup = data.getDataStartRow() + groupedRow.getLeft() + data.getConfiguration().getDataStartRowIndex();
-            int endGroup = data.getDataStartRow() + groupedRow.getRight()  + data.getConfiguration().getDataStartRowIndex();
+            int startGroup = getGroupStartRow(groupedRow);
+            int endGroup = getGroupEndRow(groupedRow);
             sheet.groupRow(startGroup, endGroup);
             sheet.setRowGroupCollapsed(startGroup, data.isGroupedRowsDefaultCollapsed());
         }
         loggerService.trace("Row's groups created. Time: " + rowsGroup.stop(), !groupedRows.isEmpty());
     }
 
+    private int getGroupStartRow(final Pair<Integer, Integer> groupedRow) {
+        return getGroupRow(groupedRow.getLeft());
+    }
+
+    private int getGroupEndRow(final Pair<Integer, Integer> groupedRow) {
+        return getGroupRow(groupedRow.getRight());
+    }
+
+    private int getGroupRow(final int groupRow) {
+        return data.getDataStartRow() + groupRow + data.getConfiguration().getDataStartRowIndex();
+    }
+
     private void createColumnsGroups(final Sheet sheet) {
         final List<Pair<Integer, Integer>> groupedColumns = data.getGroupedColumns();
 
@@ -207,75 +460,85 @@ class RawDataInjector extends DataInjector {
         loggerService.trace("Column's groups created. Time: " + columnsGroup.stop(), !groupedColumns.isEmpty());
     }
 
-    private void addStripedRows(Sheet sheet) {
-        final StripedRows.StripedRowsIndex stripedRowsIndex = data.getStyles().getStripedRowsIndex();
-        final Color stripedRowsColor = data.getStyles().getStripedRowsColor();
-        if(stripedRowsIndex != null && stripedRowsColor != null) {
-            loggerService.trace("Adding striped row styles...");
-            final Stopwatch stripedRowsStopwatch = Stopwatch.createStarted();
+    /**
+     * Adds the striped rows and the report styles in a single pass over the rows.
+     */
+    private void addStyles(Sheet sheet) {
+        final ReportStylesBuilder reportStylesBuilder = data.getStyles().getReportStylesBuilder();
+        if(reportStylesBuilder != null || getStripedRowsColor() != null) {
+            loggerService.trace("Adding styles...");
+            final Stopwatch stylesStopwatch = Stopwatch.createStarted();
 
-            for (int i = stripedRowsIndex.getIndex() + data.getConfiguration().getVerticalOffset(); i <= sheet.getLastRowNum() + data.getConfiguration().getVerticalOffset(); i += 2) {
+            final List<ReportStyle> styles = getResolvedStyles(reportStylesBuilder, sheet.getLastRowNum());
+            final ReportStylesIndex stylesIndex = new ReportStylesIndex(styles);
+            for (int i = sheet.getFirstRowNum(); i <= sheet.getLastRowNum(); i++) {
                 final Row row = sheet.getRow(i);
-                for (int y = row.getFirstCellNum(); y < row.getLastCellNum(); y++) {
-                    final Cell cell = row.getCell(y);
-                    final XSSFCellStyle cellStyle = currentWorkbook.createCellStyle();
-                    cellStyle.cloneStyleFrom(cell.getCellStyle());
-                    cellStyle.setFillForegroundColor(new XSSFColor(stripedRowsColor));
-                    cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-                    cell.setCellStyle(cellStyle);
+                if(row != null) {
+                    applyRowStyles(row, stylesIndex);
                 }
             }
-            loggerService.trace("Striped row styles added. Time: " + stripedRowsStopwatch.stop());
+            for (ReportStyle reportStyle : styles) {
+                applyColumnWidth(sheet, reportStyle);
+            }
+            loggerService.trace("Styles added. Time: " + stylesStopwatch.stop());
+            loggerService.trace("Total styles: " + sheet.getWorkbook().getNumCellStyles());
         }
     }
 
-    private void addStyles(Sheet sheet) {
-        final ReportStylesBuilder reportStylesBuilder = data.getStyles().getReportStylesBuilder();
-        if(reportStylesBuilder != null) {
-            loggerService.trace("Adding styles...");
-            final Stopwatch stylesStopwatch = Stopwatch.createStarted();
-
-            final List<ReportStyle> styles = reportStylesBuilder.getStyles();
-            final short verticalOffset = data.getConfiguration().getVerticalOffset();
-            final short horizontalOffset = data.getConfiguration().getHorizontalOffset();
-            for (ReportStyle reportStyle : styles) {
-                final VerticalRange verticalRange = reportStyle.getRange().getVerticalRange();
-                checkRange(verticalRange, sheet);
-                final HorizontalRange horizontalRange = reportStyle.getRange().getHorizontalRange();
-                checkRange(horizontalRange, reportData);
-                for (int i = verticalRange.getStart() + verticalOffset; i <= verticalRange.getEnd() + verticalOffset; i++) {
-                    final Row row = sheet.getRow(i);
-                    if(row != null) {
-                        for (int y = horizontalRange.getStart() + horizontalOffset; y <= horizontalRange.getEnd() + horizontalOffset; y++) {
-                            cellApplyStyles(row.getCell(y), reportStyle);
-                        }
-                        if (reportStyle.getRowHeight() != null) {
-                            row.setHeightInPoints(reportStyle.getRowHeight());
-                        }
+    /**
+     * Applies the striped row style and all the styles of the row at once, so every cell gets a single style.
+     */
+    private void applyRowStyles(Row row, ReportStylesIndex stylesIndex) {
+        final short verticalOffset = data.getConfiguration().getVerticalOffset();
+        final short horizontalOffset = data.getConfiguration().getHorizontalOffset();
+        final ReportStylesIndex.RowStyles rowStyles = stylesIndex.getRowStyles(row.getRowNum() - verticalOffset);
+        final Color stripedRowsColor = getStripedRowsColor();
+        final int firstStripedRow = stripedRowsColor != null ? data.getStyles().getStripedRowsIndex().getIndex() + verticalOffset : 0;
+        if(stripedRowsColor != null && row.getRowNum() >= firstStripedRow && (row.getRowNum() - firstStripedRow) % 2 == 0) {
+            for (int y = row.getFirstCellNum(); y < row.getLastCellNum(); y++) {
+                final Cell cell = row.getCell(y);
+                if(cell != null) {
+                    final List<ReportStyle> styles = rowStyles.getColumnStyles(y - horizontalOffset);
+                    // A style which does not clone the previous style replaces the striped row style
+                    if(styles.isEmpty() || styles.get(0).isClonePreviousStyle()) {
+                        cell.setCellStyle(stylesCache.getStripedCellStyle(cell.getCellStyle(), stripedRowsColor));
                     }
+                    cellApplyStyles(cell, styles);
                 }
-                if(reportStyle.getColumnWidth() != null) {
-                    for (int i = horizontalRange.getStart() + horizontalOffset; i <= horizontalRange.getEnd() + horizontalOffset; i++) {
-                        sheet.setColumnWidth(i, reportStyle.getColumnWidth() * WIDTH_MULTIPLIER);
-                    }
+            }
+        } else {
+            for (ReportStylesIndex.ColumnsStyles columnsStyles : rowStyles.getColumnsStyles()) {
+                for (int y = columnsStyles.getFirstColumn() + horizontalOffset; y <= columnsStyles.getLastColumn() + horizontalOffset; y++) {
+                    cellApplyStyles(row.getCell(y), columnsStyles.getStyles());
                 }
             }
-            loggerService.trace("Styles added. Time: " + stylesStopwatch.stop());
-            loggerService.trace("Total styles: " + sheet.getWorkbook().getNumCellStyles());
+        }
+        if (rowStyles.getRowHeight() != null) {
+            row.setHeightInPoints(rowStyles.getRowHeight());
         }
     }
 
-    private void checkRange(VerticalRange range, Sheet sheet) {
+    private void applyColumnWidth(Sheet sheet, ReportStyle reportStyle) {
+        final HorizontalRange horizontalRange = reportStyle.getRange().getHorizontalRange();
+        final short horizontalOffset = data.getConfiguration().getHorizontalOffset();
+        if(reportStyle.getColumnWidth() != null) {
+            for (int i = horizontalRange.getStart() + horizontalOffset; i <= horizontalRange.getEnd() + horizontalOffset; i++) {
+                sheet.setColumnWidth(i, reportStyle.getColumnWidth() * WIDTH_MULTIPLIER);
+            }
+        }
+    }
+
+    private void checkRange(VerticalRange range, int lastRowNum) {
         if(Objects.isNull(range.getStart())) {
-            range.setStart(sheet.getLastRowNum());
+            range.setStart(lastRowNum);
         } else if(range.getStart() < 0) {
-            range.setStart(sheet.getLastRowNum() + range.getStart());
+            range.setStart(lastRowNum + range.getStart());
         }
 
         if(Objects.isNull(range.getEnd())) {
-            range.setEnd(sheet.getLastRowNum());
+            range.setEnd(lastRowNum);
         } else if(range.getEnd() < 0) {
-            range.setEnd(sheet.getLastRowNum() + range.getEnd());
+            range.setEnd(lastRowNum + range.getEnd());
         }
     }
 
@@ -293,40 +556,142 @@ class RawDataInjector extends DataInjector {
         }
     }
 
-    private void cellApplyStyles(Cell cell, ReportStyle style) {
-        if(cell != null) {
-            XSSFCellStyle cellStyle;
-            final Pair<ReportStyle, String> styleKey = Pair.of(style, cell.getCellStyle().getDataFormatString());
-            if(!stylesCache.containsKey(styleKey) || style.isClonePreviousStyle()) {
-                cellStyle = currentWorkbook.createCellStyle();
-                cellStyle.setDataFormat(cell.getCellStyle().getDataFormat());
-                if(style.isClonePreviousStyle()) {
-                    cellStyle.cloneStyleFrom(cell.getCellStyle());
+    /**
+     * Writes the conditional formatting styles once for all the data rows. Formulas are relative
+     * to the first data row, with absolute columns, so every cell of a row evaluates the same cells.
+     */
+    private void addConditionalFormattingStyles(Sheet sheet) {
+        final List<ConditionalFormattingStyle> conditionalFormattingStyles = data.getStyles().getConditionalFormattingStyles();
+        if(!conditionalFormattingStyles.isEmpty() && data.getRowsCount() > 0) {
+            loggerService.trace("Adding conditional formatting styles...");
+            final Stopwatch conditionalFormattingStopwatch = Stopwatch.createStarted();
+
+            final SheetConditionalFormatting sheetConditionalFormatting = sheet.getSheetConditionalFormatting();
+            final short horizontalOffset = data.getConfiguration().getHorizontalOffset();
+            final int firstRow = data.getDataRealStartRow();
+            final int lastRow = firstRow + data.getRowsCount() - 1;
+            for (ConditionalFormattingStyle conditionalFormattingStyle : conditionalFormattingStyles) {
+                final ReportStyle style = conditionalFormattingStyle.getStyle();
+                final HorizontalRange horizontalRange;
+                if(conditionalFormattingStyle.getColumnId() != null) {
+                    final int columnIndex = getConditionalColumnIndex(conditionalFormattingStyle.getColumnId());
+                    horizontalRange = new HorizontalRange(columnIndex, columnIndex);
+                } else {
+                    horizontalRange = style.getRange().getHorizontalRange();
+                    checkRange(horizontalRange, reportData);
                 }
+                final ConditionalFormattingRule rule = sheetConditionalFormatting.createConditionalFormattingRule(getConditionalFormula(conditionalFormattingStyle.getFormula(), firstRow));
+                applyConditionalFormattingStyle(rule, style);
+                final CellRangeAddress region = new CellRangeAddress(firstRow, lastRow, horizontalRange.getStart() + horizontalOffset, horizontalRange.getEnd() + horizontalOffset);
+                sheetConditionalFormatting.addConditionalFormatting(new CellRangeAddress[]{region}, rule);
+            }
+            loggerService.trace("Conditional formatting styles added. Time: " + conditionalFormattingStopwatch.stop());
+        }
+    }
 
-                // Borders
-                cellApplyBorderStyles(style, cellStyle);
-
-                // Colors
-                cellApplyColorStyles(style, cellStyle);
+    private String getConditionalFormula(String formula, int firstRow) {
+        final short horizontalOffset = data.getConfiguration().getHorizontalOffset();
+        return getFormulaTemplate(formula).render(id -> new CellReference(firstRow, getConditionalColumnIndex(id) + horizontalOffset, false, true).formatAsString());
+    }
 
-                // Font
-                cellApplyFontStyles(style, cellStyle);
+    private int getConditionalColumnIndex(String id) {
+        final Integer columnIndex = data.getColumnIndexForId(id);
+        if(columnIndex == null) {
+            throw new ReportEngineRuntimeException(String.format("The conditional style references the column \"%s\", which does not exist in report \"%s\"", id, data.getReportName()), this.getClass());
+        }
+        return columnIndex;
+    }
 
-                // Alignment
-                cellApplyAlignmentStyles(style, cellStyle);
+    /**
+     * Conditional formatting supports only the font, fill and border attributes of the style.
+     */
+    private void applyConditionalFormattingStyle(ConditionalFormattingRule rule, ReportStyle style) {
+        if(Utils.anyNotNull(style.getFontSize(), style.getFontColor(), style.getBoldFont(), style.getItalicFont(), style.getUnderlineFont())) {
+            final FontFormatting fontFormatting = rule.createFontFormatting();
+            if(style.getFontSize() != null) {
+                fontFormatting.setFontHeight(style.getFontSize() * 20);
+            }
+            if(style.getFontColor() != null) {
+                fontFormatting.setFontColor(new XSSFColor(style.getFontColor()));
+            }
+            if(style.getBoldFont() != null || style.getItalicFont() != null) {
+                fontFormatting.setFontStyle(Boolean.TRUE.equals(style.getItalicFont()), Boolean.TRUE.equals(style.getBoldFont()));
+            }
+            if(style.getUnderlineFont() != null) {
+                fontFormatting.setUnderlineType(style.getUnderlineFont().getByteValue());
+            }
+        }
 
-                // Other
-                cellApplyOtherStyles(style, cellStyle);
+        if(style.getForegroundColor() != null) {
+            final PatternFormatting patternFormatting = rule.createPatternFormatting();
+            // Solid fills of conditional formatting use the background color
+            patternFormatting.setFillBackgroundColor(new XSSFColor(style.getForegroundColor()));
+            if(style.getFillPattern() != null) {
+                patternFormatting.setFillPattern(style.getFillPattern().getCode());
+            }
+        }
 
-                stylesCache.put(styleKey, cellStyle);
-            } else {
-                cellStyle = stylesCache.get(styleKey);
+        if(Utils.anyNotNull(style.getBorderTop(), style.getBorderBottom(), style.getBorderLeft(), style.getBorderRight(), style.getBorderColor(),
+                style.getTopBorderColor(), style.getBottomBorderColor(), style.getLeftBorderColor(), style.getRightBorderColor())) {
+            final BorderFormatting borderFormatting = rule.createBorderFormatting();
+            if(style.getBorderTop() != null) {
+                borderFormatting.setBorderTop(style.getBorderTop());
+            }
+            if(style.getBorderBottom() != null) {
+                borderFormatting.setBorderBottom(style.getBorderBottom());
+            }
+            if(style.getBorderLeft() != null) {
+                borderFormatting.setBorderLeft(style.getBorderLeft());
+            }
+            if(style.getBorderRight() != null) {
+                borderFormatting.setBorderRight(style.getBorderRight());
+            }
+            final Color topBorderColor = style.getTopBorderColor() != null ? style.getTopBorderColor() : style.getBorderColor();
+            final Color bottomBorderColor = style.getBottomBorderColor() != null ? style.getBottomBorderColor() : style.getBorderColor();
+            final Color leftBorderColor = style.getLeftBorderColor() != null ? style.getLeftBorderColor() : style.getBorderColor();
+            final Color rightBorderColor = style.getRightBorderColor() != null ? style.getRightBorderColor() : style.getBorderColor();
+            if(topBorderColor != null) {
+                borderFormatting.setTopBorderColor(new XSSFColor(topBorderColor));
+            }
+            if(bottomBorderColor != null) {
+                borderFormatting.setBottomBorderColor(new XSSFColor(bottomBorderColor));
+            }
+            if(leftBorderColor != null) {
+                borderFormatting.setLeftBorderColor(new XSSFColor(leftBorderColor));
+            }
+            if(rightBorderColor != null) {
+                borderFormatting.setRightBorderColor(new XSSFColor(rightBorderColor));
             }
-            cell.setCellStyle(cellStyle);
         }
     }
 
+    private Color getStripedRowsColor() {
+        return data.getStyles().getStripedRowsIndex() != null ? data.getStyles().getStripedRowsColor() : null;
+    }
+
+    private void cellApplyStyles(Cell cell, List<ReportStyle> styles) {
+        if(cell != null && !styles.isEmpty()) {
+            cell.setCellStyle(stylesCache.getCellStyle(styles, cell.getCellStyle(), this::applyReportStyle));
+        }
+    }
+
+    private void applyReportStyle(ReportStyle style, XSSFCellStyle cellStyle) {
+        // Borders
+        cellApplyBorderStyles(style, cellStyle);
+
+        // Colors
+        cellApplyColorStyles(style, cellStyle);
+
+        // Font
+        cellApplyFontStyles(style, cellStyle);
+
+        // Alignment
+        cellApplyAlignmentStyles(style, cellStyle);
+
+        // Other
+        cellApplyOtherStyles(style, cellStyle);
+    }
+
     private void cellApplyOtherStyles(ReportStyle style, XSSFCellStyle cellStyle) {
         if(style.getHidden() != null) {
             cellStyle.setHidden(style.getHidden());
@@ -368,29 +733,7 @@ class RawDataInjector extends DataInjector {
 
     private void cellApplyFontStyles(ReportStyle style, XSSFCellStyle cellStyle) {
         if(Utils.anyNotNull(style.getFontName(), style.getFontSize(), style.getFontColor(), style.getBoldFont(), style.getItalicFont(), style.getUnderlineFont(), style.getStrikeoutFont())) {
-            XSSFFont font = currentWorkbook.createFont();
-            if(style.getFontName() != null) {
-                font.setFontName(style.getFontName());
-            }
-            if(style.getFontSize() != null) {
-                font.setFontHeightInPoints(style.getFontSize());
-            }
-            if(style.getFontColor() != null) {
-                font.setColor(new XSSFColor(style.getFontColor()));
-            }
-            if(style.getBoldFont() != null) {
-                font.setBold(style.getBoldFont());
-            }
-            if(style.getItalicFont() != null) {
-                font.setItalic(style.getItalicFont());
-            }
-            if(style.getUnderlineFont() != null) {
-                font.setUnderline(style.getUnderlineFont());
-            }
-            if(style.getStrikeoutFont() != null) {
-                font.setStrikeout(style.getStrikeoutFont());
-            }
-            cellStyle.setFont(font);
+            cellStyle.setFont(stylesCache.getFont(style));
         }
     }
 
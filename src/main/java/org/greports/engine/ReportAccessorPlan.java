@@ -0,0 +1,115 @@
+package org.greports.engine;
+
+import org.apache.commons.lang3.reflect.MethodUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.greports.annotations.Column;
+import org.greports.converters.NotImplementedConverter;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.utils.AnnotationUtils;
+import org.greports.utils.ConverterUtils;
+import org.greports.utils.ResolvedConverter;
+import org.greports.utils.ValueGetter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled getters used to parse the rows of a class for a report: the getters of the columns,
+ * including their nested targets and getter converters, and the methods of the special columns.
+ * Plans are built once per class and report name, and rebuilt if the annotations metadata
+ * of the class is invalidated in {@link AnnotationUtils}.
+ */
+final class ReportAccessorPlan {
+
+    private static final ClassValue<Map<String, ReportAccessorPlan>> plans = new ClassValue<Map<String, ReportAccessorPlan>>() {
+        @Override
+        protected Map<String, ReportAccessorPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> clazz;
+    private final List<Pair<Column, Method>> columns;
+    private final List<ColumnAccessor> columnAccessors;
+    private final Map<String, ValueGetter> methodGetters = new ConcurrentHashMap<>();
+
+    private ReportAccessorPlan(final Class<?> clazz, final List<Pair<Column, Method>> columns) throws ReportEngineReflectionException {
+        this.clazz = clazz;
+        this.columns = columns;
+        Map<Column, Method> columnsMap = new LinkedHashMap<>();
+        for (final Pair<Column, Method> pair : columns) {
+            columnsMap.put(pair.getLeft(), pair.getRight());
+        }
+        final List<ColumnAccessor> accessors = new ArrayList<>();
+        for (final Map.Entry<Column, Method> entry : columnsMap.entrySet()) {
+            accessors.add(new ColumnAccessor(entry.getKey(), entry.getValue()));
+        }
+        this.columnAccessors = Collections.unmodifiableList(accessors);
+    }
+
+    static ReportAccessorPlan forClass(final Class<?> clazz, final String reportName) throws ReportEngineReflectionException {
+        final Map<String, ReportAccessorPlan> classPlans = plans.get(clazz);
+        final List<Pair<Column, Method>> columns = AnnotationUtils.getColumnsWithMethods(clazz, reportName);
+        ReportAccessorPlan plan = classPlans.get(reportName);
+        // The metadata returns the same list until it is invalidated
+        if(plan == null || plan.columns != columns) {
+            plan = new ReportAccessorPlan(clazz, columns);
+            classPlans.put(reportName, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * @return the columns of the report, in declaration order, with their getters.
+     */
+    List<ColumnAccessor> getColumnAccessors() {
+        return columnAccessors;
+    }
+
+    /**
+     * @param methodName name of a method without parameters
+     * @return the compiled getter of the method
+     * @throws ReportEngineReflectionException if the class has no method with that name
+     */
+    ValueGetter getMethodGetter(final String methodName) throws ReportEngineReflectionException {
+        ValueGetter getter = methodGetters.get(methodName);
+        if(getter == null) {
+            final Method method = MethodUtils.getMatchingMethod(clazz, methodName);
+            if(method == null) {
+                throw new ReportEngineReflectionException(String.format("No method was found with name \"%s\" in class %s", methodName, clazz.getName()), clazz);
+            }
+            getter = new ValueGetter(method, null);
+            methodGetters.put(methodName, getter);
+        }
+        return getter;
+    }
+
+    static final class ColumnAccessor {
+        private final Column column;
+        private final ValueGetter getter;
+        private final ResolvedConverter converter;
+
+        private ColumnAccessor(final Column column, final Method method) throws ReportEngineReflectionException {
+            this.column = column;
+            this.getter = new ValueGetter(method, AnnotationUtils.hasNestedTarget(column) ? column.target() : null);
+            this.converter = !column.getterConverter().converterClass().equals(NotImplementedConverter.class) ? ConverterUtils.resolve(column.getterConverter()) : null;
+        }
+
+        Column getColumn() {
+            return column;
+        }
+
+        /**
+         * @return the value of the column for the entry, converted with the getter converter if any.
+         */
+        Object getValue(final Object entry) throws ReportEngineReflectionException {
+            final Object value = getter.get(entry);
+            return converter != null ? converter.convert(value) : value;
+        }
+    }
+}
@@ -6,6 +6,9 @@ import org.greports.annotations.ColumnValidator;
 import org.greports.annotations.Converter;
 import org.greports.annotations.SpecialColumn;
 import org.greports.annotations.Subreport;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.utils.ConverterUtils;
+import org.greports.utils.ResolvedConverter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -27,6 +30,7 @@ public class ReportBlock {
     private int startColumn;
     private boolean multiple;
     private int repeatCount;
+    private ResolvedConverter setterConverter;
 
     public ReportBlock(final Class<?> blockClass, String reportName, final ReportBlock parentBlock) {
         this.blockClass = blockClass;
@@ -83,6 +87,17 @@ public class ReportBlock {
         return getAsColumn().setterConverter();
     }
 
+    /**
+     * @return the setter converter resolved the first time it is requested.
+     * @throws ReportEngineReflectionException if the converter class cannot be instantiated
+     */
+    public ResolvedConverter getResolvedSetterConverter() throws ReportEngineReflectionException {
+        if(setterConverter == null) {
+            setterConverter = ConverterUtils.resolve(getSetterConverter());
+        }
+        return setterConverter;
+    }
+
     public void addValue(Object value) {
         this.values.add(value);
     }
@@ -91,6 +106,16 @@ public class ReportBlock {
         return values;
     }
 
+    /**
+     * Clears the values of the block and of all its blocks.
+     */
+    public void clearValues() {
+        this.values.clear();
+        for (final ReportBlock block : blocks) {
+            block.clearValues();
+        }
+    }
+
     public ReportBlock getParentBlock() {
         return parentBlock;
     }
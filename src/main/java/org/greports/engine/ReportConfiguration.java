@@ -31,6 +31,8 @@ public class ReportConfiguration implements Cloneable, Serializable {
     private List<ReportSpecialColumn> specialColumns = new ArrayList<>();
     private boolean showGridlines = true;
     private boolean displayZeros = true;
+    private boolean estimatedAutoSize = false;
+    private boolean precomputedAggregates = false;
 
     ReportConfiguration(Configuration configuration) {
         this.reportName = configuration.reportName();
@@ -51,6 +53,8 @@ public class ReportConfiguration implements Cloneable, Serializable {
         this.specialColumns = Arrays.stream(configuration.specialColumns()).map(ReportSpecialColumn::new).collect(Collectors.toList());
         this.showGridlines = configuration.showGridlines();
         this.displayZeros = configuration.displayZeros();
+        this.estimatedAutoSize = configuration.estimatedAutoSize();
+        this.precomputedAggregates = configuration.precomputedAggregates();
     }
 
     public ReportConfiguration(final String sheetName) {
@@ -129,6 +133,14 @@ public class ReportConfiguration implements Cloneable, Serializable {
         return displayZeros;
     }
 
+    public boolean isEstimatedAutoSize() {
+        return estimatedAutoSize;
+    }
+
+    public boolean isPrecomputedAggregates() {
+        return precomputedAggregates;
+    }
+
     public ReportConfiguration setReportName(final String[] reportName) {
         this.reportName = reportName;
         return this;
@@ -219,6 +231,16 @@ public class ReportConfiguration implements Cloneable, Serializable {
         return this;
     }
 
+    public ReportConfiguration setEstimatedAutoSize(boolean estimatedAutoSize) {
+        this.estimatedAutoSize = estimatedAutoSize;
+        return this;
+    }
+
+    public ReportConfiguration setPrecomputedAggregates(boolean precomputedAggregates) {
+        this.precomputedAggregates = precomputedAggregates;
+        return this;
+    }
+
     @Override
     public Object clone() {
         ReportConfiguration clone = this;
@@ -27,17 +27,22 @@ public class ReportData implements Cloneable, Serializable {
     private final ReportStylesContainer reportStylesContainer = new ReportStylesContainer();
     private final Map<String, Integer> targetIndexes = new HashMap<>();
     private final String reportName;
+    private Class<?> reportClass;
     private ReportConfiguration configuration;
     private URL templateURL;
     private ReportHeader header;
     private int dataStartRow;
     private final List<Pair<Integer, Integer>> groupedRows = new ArrayList<>();
     private boolean groupedRowsDefaultCollapsed;
+    private Integer openGroupStart;
     private List<Pair<Integer, Integer>> groupedColumns = new ArrayList<>();
     private boolean groupedColumnsDefaultCollapsed;
     private List<SpecialDataRow> specialRows = new ArrayList<>();
     private List<DataRow> dataRows = new ArrayList<>();
     private List<Integer> autosizedColumns;
+    private final Map<Float, ColumnWidthEstimator.ColumnLength> columnsLengths = new HashMap<>();
+    private transient ReportDataChunkSource<?> chunkSource;
+    private int streamedRowsCount;
 
     public ReportData(final String reportName, final ReportConfiguration configuration) {
         this.reportName = reportName;
@@ -54,6 +59,56 @@ public class ReportData implements Cloneable, Serializable {
         return physicalRow != null && physicalRow.getCells().size() > columnIndex;
     }
 
+    ReportData setChunkSource(final ReportDataChunkSource<?> chunkSource) {
+        this.chunkSource = chunkSource;
+        return this;
+    }
+
+    /**
+     * Closes the source of a report parsed from an iterator, if it was not closed after its last chunk.
+     */
+    void closeChunkSource() {
+        if(chunkSource != null) {
+            chunkSource.close();
+        }
+    }
+
+    /**
+     * @return true if the report was parsed from an iterator and there are entries left to parse.
+     */
+    public boolean hasPendingRows() {
+        return chunkSource != null && chunkSource.hasNext();
+    }
+
+    /**
+     * Parses the next chunk of a report parsed from an iterator. The rows of the chunk are not kept,
+     * but they are counted in {@link #getRowsCount()}. Row groups and special rows are updated.
+     * @return the chunk with its data rows and conditional styles.
+     */
+    ReportData nextRowsChunk() {
+        final ReportData chunk = chunkSource.next();
+        groupedRows.addAll(chunk.getGroupedRows());
+        specialRows = chunk.getSpecialRows();
+        reportStylesContainer.getConditionalFormattingStyles().addAll(chunk.getStyles().getConditionalFormattingStyles());
+        mergeColumnsLengths(chunk);
+        streamedRowsCount += chunk.getRowsCount();
+        return chunk;
+    }
+
+    /**
+     * Parses all the pending chunks of a report parsed from an iterator and keeps their rows.
+     */
+    public void loadPendingRows() {
+        while(hasPendingRows()) {
+            final ReportData chunk = chunkSource.next();
+            groupedRows.addAll(chunk.getGroupedRows());
+            specialRows = chunk.getSpecialRows();
+            dataRows.addAll(chunk.getDataRows());
+            mergeStyles(chunk);
+            mergeColumnsLengths(chunk);
+        }
+    }
+
     public ReportData addRow(DataRow row) {
         this.dataRows.add(row);
         return this;
@@ -86,6 +141,19 @@ public class ReportData implements Cloneable, Serializable {
         return groupedRows;
     }
 
+    /**
+     * @return the first row of the group which is still open after the rows of a chunk of a pull-based report,
+     * or null if every group started by the chunk or the previous ones is closed
+     */
+    Integer getOpenGroupStart() {
+        return openGroupStart;
+    }
+
+    ReportData setOpenGroupStart(final Integer openGroupStart) {
+        this.openGroupStart = openGroupStart;
+        return this;
+    }
+
     public ReportData setGroupedRowsDefaultCollapsed(final boolean groupedRowsDefaultCollapsed) {
         this.groupedRowsDefaultCollapsed = groupedRowsDefaultCollapsed;
         return this;
@@ -123,6 +191,7 @@ public class ReportData implements Cloneable, Serializable {
             mergeHeaders(other);
             mergeRows(other);
             mergeStyles(other);
+            mergeColumnsLengths(other);
         }
 
         setTargetIds();
@@ -176,8 +245,60 @@ public class ReportData implements Cloneable, Serializable {
         reportStylesContainer.mergeStyles(other.reportStylesContainer);
     }
 
+    private void mergeColumnsLengths(ReportData other) {
+        for (final Map.Entry<Float, ColumnWidthEstimator.ColumnLength> entry : other.columnsLengths.entrySet()) {
+            columnsLengths.computeIfAbsent(entry.getKey(), position -> new ColumnWidthEstimator.ColumnLength()).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Tracks the rendered length of a data cell for the estimated autosize. Merged cells are not tracked,
+     * as they do not size their columns.
+     * @param dataCell parsed data cell
+     */
+    void updateColumnLength(final DataCell dataCell) {
+        if(dataCell.getColumnWidth() == 1) {
+            columnsLengths.computeIfAbsent(dataCell.getPosition(), position -> new ColumnWidthEstimator.ColumnLength()).update(dataCell);
+        }
+    }
+
+    /**
+     * @param columnIndex index of a column returned by {@link #getAutoSizedColumns()}
+     * @return the lengths tracked for the data cells of the column, including its title and the values of the special rows
+     */
+    ColumnWidthEstimator.ColumnLength getColumnLength(final int columnIndex) {
+        final ColumnWidthEstimator.ColumnLength columnLength = new ColumnWidthEstimator.ColumnLength();
+        int mergedCount = 0;
+        for (int i = 0; header != null && i < header.getCells().size() && i + mergedCount <= columnIndex; i++) {
+            final HeaderCell headerCell = header.getCells().get(i);
+            if(i + mergedCount == columnIndex && headerCell.getColumnWidth() == 1) {
+                final ColumnWidthEstimator.ColumnLength tracked = columnsLengths.get(headerCell.getPosition());
+                if(tracked != null) {
+                    columnLength.merge(tracked);
+                }
+                if(isCreateHeader()) {
+                    columnLength.update(headerCell.getValue(), null);
+                }
+                for (final SpecialDataRow specialRow : specialRows) {
+                    for (final SpecialDataCell specialCell : specialRow.getCells()) {
+                        if(specialCell.getColumnWidth() == 1 && Objects.equals(specialCell.getTargetId(), headerCell.getId())) {
+                            columnLength.update(specialCell);
+                        }
+                    }
+                }
+            }
+            if(headerCell.getColumnWidth() > 1){
+                mergedCount += headerCell.getColumnWidth() - 1;
+            }
+        }
+        return columnLength;
+    }
+
     @Override
     public Object clone() throws CloneNotSupportedException {
+        if(hasPendingRows()) {
+            throw new CloneNotSupportedException("A report with rows pending to be parsed cannot be cloned");
+        }
         final ReportData clone = (ReportData) super.clone();
         clone.header = (ReportHeader) this.header.clone();
         clone.configuration = (ReportConfiguration) this.configuration.clone();
@@ -190,6 +311,18 @@ public class ReportData implements Cloneable, Serializable {
         return reportName;
     }
 
+    /**
+     * @return the class the report was parsed from
+     */
+    public Class<?> getReportClass() {
+        return reportClass;
+    }
+
+    ReportData setReportClass(final Class<?> reportClass) {
+        this.reportClass = reportClass;
+        return this;
+    }
+
     public ReportConfiguration getConfiguration() {
         return configuration;
     }
@@ -234,7 +367,7 @@ public class ReportData implements Cloneable, Serializable {
     }
 
     public int getRowsCount(){
-        return dataRows.size();
+        return streamedRowsCount + dataRows.size();
     }
 
     public ReportHeader getHeader() {
@@ -0,0 +1,84 @@
+package org.greports.engine;
+
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.exceptions.ReportEngineRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Pulls the entries of a report from an iterator and parses them in chunks of bounded size,
+ * so neither the whole source nor all the data rows have to be kept in memory at once.
+ * @param <T> entries class
+ */
+class ReportDataChunkSource<T> {
+
+    private final ReportDataParser<T> parser;
+    private final Iterator<T> iterator;
+    private final int chunkSize;
+    private final String reportName;
+    private final Class<T> clazz;
+    private final ReportConfigurator configurator;
+    private final Runnable onClose;
+    private int parsedRows;
+    private boolean closed;
+
+    ReportDataChunkSource(final ReportDataParser<T> parser, final Iterator<T> iterator, final int chunkSize, final String reportName, final Class<T> clazz, final ReportConfigurator configurator, final Runnable onClose) {
+        this.parser = parser;
+        this.iterator = iterator;
+        this.chunkSize = chunkSize;
+        this.reportName = reportName;
+        this.clazz = clazz;
+        this.configurator = configurator;
+        this.onClose = onClose;
+    }
+
+    /**
+     * @return true if there are entries left. The source is closed once it has no entries left
+     */
+    boolean hasNext() {
+        if(closed) {
+            return false;
+        }
+        final boolean hasNext;
+        try {
+            hasNext = iterator.hasNext();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if(!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    /**
+     * Releases the resources of the source. Further calls do nothing.
+     */
+    void close() {
+        if(!closed) {
+            closed = true;
+            onClose.run();
+        }
+    }
+
+    ReportData next() {
+        final List<T> chunk = new ArrayList<>(chunkSize);
+        try {
+            while(chunk.size() < chunkSize && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
+            final ReportData chunkData = parser.parseChunk(chunk, parsedRows, reportName, clazz, configurator);
+            parsedRows += chunk.size();
+            return chunkData;
+        } catch (ReportEngineReflectionException e) {
+            close();
+            throw new ReportEngineRuntimeException(String.format("Error parsing the rows of report \"%s\"", reportName), e, this.getClass());
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+}
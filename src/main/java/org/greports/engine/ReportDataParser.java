@@ -2,7 +2,6 @@ package org.greports.engine;
 
 import com.google.common.base.Stopwatch;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.MethodUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.log4j.Level;
 import org.greports.annotations.Column;
@@ -13,7 +12,6 @@ import org.greports.content.cell.SpecialDataCell;
 import org.greports.content.header.ReportHeader;
 import org.greports.content.row.DataRow;
 import org.greports.content.row.SpecialDataRow;
-import org.greports.converters.NotImplementedConverter;
 import org.greports.exceptions.ReportEngineReflectionException;
 import org.greports.exceptions.ReportEngineRuntimeException;
 import org.greports.interfaces.collectedvalues.CollectedFormulaValues;
@@ -24,26 +22,31 @@ import org.greports.positioning.HorizontalRange;
 import org.greports.positioning.Position;
 import org.greports.positioning.VerticalRange;
 import org.greports.services.LoggerService;
+import org.greports.styles.ConditionalFormattingStyle;
 import org.greports.styles.interfaces.ConditionalCellStyles;
 import org.greports.styles.interfaces.ConditionalRowStyles;
 import org.greports.styles.stylesbuilders.ReportStyleBuilder;
 import org.greports.styles.stylesbuilders.ReportStylesBuilder;
 import org.greports.utils.AnnotationUtils;
-import org.greports.utils.ConverterUtils;
 import org.greports.utils.ReflectionUtils;
 import org.greports.utils.Translator;
 import org.greports.utils.Utils;
+import org.greports.utils.ValueGetter;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
@@ -55,6 +58,16 @@ public final class ReportDataParser<T> extends ReportParser {
     private  ReportListDataContainer<T> currentContainer;
     private static final float SUBREPORT_POSITIONAL_INCREMENT = 0.00000000000001f;
 
+    // State kept between the chunks of a pull-based parse
+    private int rowOffset;
+    private boolean chunked;
+    private boolean estimatedAutoSize;
+    private Integer groupStart;
+    private boolean groupOpen;
+    private final Map<Pair<Integer, Integer>, List<Object>> collectedValues = new HashMap<>();
+    private final Map<Pair<Integer, Integer>, List<Integer>> collectedFormulaRows = new HashMap<>();
+    private final Map<Pair<Integer, Integer>, FormulaAggregate> formulaAggregates = new HashMap<>();
+
     public ReportDataParser(boolean loggerEnabled, Level level) {
         loggerService = LoggerService.forClass(ReportDataParser.class, loggerEnabled, level);
     }
@@ -69,15 +82,100 @@ public final class ReportDataParser<T> extends ReportParser {
         loggerService.info("Parsing started...");
         loggerService.info(String.format("Parsing report for class \"%s\" with report name \"%s\"...", clazz.getSimpleName(), reportName));
         Stopwatch timer = Stopwatch.createStarted();
+        resetChunkState();
         final ReportDataParser<T> parser = parse(list, reportName, clazz, configurator, 0f, StringUtils.EMPTY);
         loggerService.info(String.format("Report with name \"%s\" successfully parsed. Parse time: %s", reportName, timer.stop()));
         return parser;
     }
 
+    /**
+     * Parses the report structure (header, special rows, report styles) and leaves the data rows
+     * to be pulled from the iterator in chunks of {@code chunkSize} entries while the report is injected.
+     * Iterable subreports are not supported, because their columns depend on the whole data set.
+     *
+     * @param iterator data source. It is consumed when the report is written.
+     * @param chunkSize max number of entries parsed at once
+     * @param reportName report name
+     * @param clazz entries class
+     * @param configurator report configurator
+     * @return the parser
+     * @throws ReportEngineReflectionException if the report structure cannot be parsed
+     */
+    protected ReportDataParser<T> parse(Iterator<T> iterator, int chunkSize, final String reportName, final Class<T> clazz, ReportConfigurator configurator) throws ReportEngineReflectionException {
+        return parse(iterator, chunkSize, reportName, clazz, configurator, () -> {});
+    }
+
+    /**
+     * @see #parse(Iterator, int, String, Class, ReportConfigurator)
+     * @param onClose releases the resources of the data source. It is run once, when the last chunk has been read,
+     *                when parsing or injecting the report fails, or when the report structure cannot be parsed
+     */
+    protected ReportDataParser<T> parse(Iterator<T> iterator, int chunkSize, final String reportName, final Class<T> clazz, ReportConfigurator configurator, Runnable onClose) throws ReportEngineReflectionException {
+        final ReportDataChunkSource<T> chunkSource;
+        try {
+            Utils.validateNotNull(iterator);
+            if(chunkSize < 1) {
+                throw new ReportEngineRuntimeException("The chunk size must be greater than 0", this.getClass());
+            }
+            validatePullBasedSubreports(clazz, reportName);
+            parse(new ArrayList<>(), reportName, clazz, configurator);
+            chunkSource = new ReportDataChunkSource<>(this, iterator, chunkSize, reportName, clazz, configurator, onClose);
+        } catch (ReportEngineReflectionException | RuntimeException e) {
+            onClose.run();
+            throw e;
+        }
+        currentContainer.getReportData().setChunkSource(chunkSource);
+        return this;
+    }
+
+    /**
+     * Parses a chunk of a pull-based report. Row indexes, row groups and collected values
+     * continue from the previous chunks.
+     *
+     * @return a report data containing only the rows of the chunk, its conditional styles and
+     * the special rows calculated with all the entries parsed so far.
+     */
+    ReportData parseChunk(List<T> chunk, int rowOffset, final String reportName, final Class<T> clazz, ReportConfigurator configurator) throws ReportEngineReflectionException {
+        loggerService.trace(String.format("Parsing chunk of %d rows starting at row %d...", chunk.size(), rowOffset));
+        final Stopwatch timer = Stopwatch.createStarted();
+        this.rowOffset = rowOffset;
+        this.chunked = true;
+        final ReportData chunkData = parse(chunk, reportName, clazz, configurator, 0f, StringUtils.EMPTY).getContainer().getReportData();
+        loggerService.trace("Chunk parsed. Time: " + timer.stop());
+        return chunkData;
+    }
+
+    private void resetChunkState() {
+        rowOffset = 0;
+        chunked = false;
+        clearCollectedState();
+    }
+
+    private void clearCollectedState() {
+        groupStart = null;
+        groupOpen = false;
+        collectedValues.clear();
+        collectedFormulaRows.clear();
+        formulaAggregates.clear();
+    }
+
+    private void validatePullBasedSubreports(final Class<?> clazz, final String reportName) throws ReportEngineReflectionException {
+        Map<Subreport, Method> subreportMap = new LinkedHashMap<>();
+        AnnotationUtils.methodsWithSubreportAnnotations(clazz, AnnotationUtils.getSubreportsFunction(subreportMap), reportName);
+        for (final Method method : subreportMap.values()) {
+            if(ReflectionUtils.isListOrArray(method.getReturnType())) {
+                throw new ReportEngineRuntimeException(String.format("Iterable subreport \"%s\" cannot be parsed from an iterator", method.getName()), this.getClass());
+            }
+            validatePullBasedSubreports(method.getReturnType(), reportName);
+        }
+    }
+
     private ReportDataParser<T> parse(List<T> list, final String reportName, final Class<T> clazz, ReportConfigurator configurator, Float positionIncrement, String idPrefix) throws ReportEngineReflectionException {
-        ReportListDataContainer<T> container = new  ReportListDataContainer<>(new ReportData(reportName, ReportConfigurationLoader.load(clazz, reportName)), clazz);
+        ReportListDataContainer<T> container = new  ReportListDataContainer<>(new ReportData(reportName, ReportConfigurationLoader.load(clazz, reportName)).setReportClass(clazz), clazz);
         final ReportConfiguration configuration = container.getReportData().getConfiguration();
         final Translator translator = new Translator(configuration);
+        // Subreports are estimated with the configuration of the report they belong to
+        estimatedAutoSize |= configuration.isEstimatedAutoSize();
 
         container.setData(list)
                 .setTranslator(translator)
@@ -97,6 +195,9 @@ public final class ReportDataParser<T> extends ReportParser {
         parseSubreports(container, idPrefix);
 
         reportData.mergeReportData(container.getSubreportsData());
+        if(configuration.isPrecomputedAggregates()) {
+            computeFormulaAggregates(reportData);
+        }
         reportData.setColumnIndexes();
         reportData.applyConfigurator(configurator);
         return this;
@@ -131,24 +232,16 @@ public final class ReportDataParser<T> extends ReportParser {
         final ReportData reportData = container.getReportData();
         reportData.setDataStartRow(reportData.getConfiguration().getDataStartRowIndex());
 
-        Map<Column, Method> columnsMap = new LinkedHashMap<>();
-        Function<Pair<Column, Method>, Void> columnFunction = AnnotationUtils.getMethodsAndColumnsFunction(columnsMap);
-        AnnotationUtils.methodsWithColumnAnnotations(container.getClazz(), columnFunction, reportData.getReportName());
+        final ReportAccessorPlan accessorPlan = ReportAccessorPlan.forClass(container.getClazz(), reportData.getReportName());
 
         final List<T> dataList = container.getData();
         for (int i = 0; i < dataList.size(); i++) {
             T dto = dataList.get(i);
-            DataRow row = new DataRow(reportData.getConfiguration().getDataStartRowIndex() + i);
-            for (final Map.Entry<Column, Method> entry : columnsMap.entrySet()) {
-                final Column column = entry.getKey();
-                Method method = entry.getValue();
-                method.setAccessible(true);
-
-                Object invokedValue = super.checkNestedValue(dto, method, AnnotationUtils.hasNestedTarget(column), column.target());
+            DataRow row = new DataRow(reportData.getConfiguration().getDataStartRowIndex() + rowOffset + i);
+            for (final ReportAccessorPlan.ColumnAccessor columnAccessor : accessorPlan.getColumnAccessors()) {
+                final Column column = columnAccessor.getColumn();
 
-                if(!column.getterConverter().converterClass().equals(NotImplementedConverter.class)){
-                    invokedValue = ConverterUtils.convertValue(invokedValue, column.getterConverter());
-                }
+                Object invokedValue = columnAccessor.getValue(dto);
 
                 String format = column.format();
 
@@ -168,6 +261,9 @@ public final class ReportDataParser<T> extends ReportParser {
                         column.columnWidth()
                 );
                 row.addCell(dataCell);
+                if(estimatedAutoSize) {
+                    reportData.updateColumnLength(dataCell);
+                }
             }
             reportData.addRow(row);
         }
@@ -181,16 +277,22 @@ public final class ReportDataParser<T> extends ReportParser {
             final GroupedRows newInstance = (GroupedRows) ReflectionUtils.newInstance(clazz);
             if(newInstance.isRowCollapsedByDefault() != null && newInstance.isRowCollapsedByDefault().containsKey(reportData.getReportName())){
                 reportData.setGroupedRowsDefaultCollapsed(newInstance.isRowCollapsedByDefault().get(reportData.getReportName()).getAsBoolean());
-                Integer groupStart = null;
                 for(int i = 0; i < list.size(); i++) {
                     GroupedRows groupedRows = (GroupedRows) list.get(i);
-                    if(groupedRows.isGroupStartRow().get(reportData.getReportName()).test(i)){
-                        groupStart = i;
+                    final int rowIndex = rowOffset + i;
+                    if(groupedRows.isGroupStartRow().get(reportData.getReportName()).test(rowIndex)){
+                        groupStart = rowIndex;
+                        groupOpen = true;
                     }
-                    if(groupedRows.isGroupEndRow().get(reportData.getReportName()).test(i)) {
-                        reportData.addGroupedRow(Pair.of(groupStart, i));
+                    if(groupedRows.isGroupEndRow().get(reportData.getReportName()).test(rowIndex)) {
+                        reportData.addGroupedRow(Pair.of(groupStart, rowIndex));
+                        groupOpen = false;
                     }
                 }
+                // The group still open at the end of a chunk is closed by the rows of a later chunk
+                if(chunked && groupOpen) {
+                    reportData.setOpenGroupStart(groupStart);
+                }
             }
         }
     }
@@ -209,6 +311,9 @@ public final class ReportDataParser<T> extends ReportParser {
 
     private void parseSubreports(final ReportListDataContainer<T> container, String idPrefix) throws ReportEngineReflectionException {
         final ReportDataParser<T> reportDataParser = new ReportDataParser<>(this.loggerService.isEnabled(), this.loggerService.getLevel());
+        reportDataParser.rowOffset = this.rowOffset;
+        reportDataParser.chunked = this.chunked;
+        reportDataParser.estimatedAutoSize = this.estimatedAutoSize;
         Map<Subreport, Method> subreportMap = new LinkedHashMap<>();
         Function<Pair<Subreport, Method>, Void> subreportFunction = AnnotationUtils.getSubreportsFunction(subreportMap);
         AnnotationUtils.methodsWithSubreportAnnotations(container.getClazz(), subreportFunction, container.getReportData().getReportName());
@@ -290,6 +395,7 @@ public final class ReportDataParser<T> extends ReportParser {
     private void parseSubreportData(final ReportListDataContainer<T> container, final ReportDataParser reportDataParser, final Class<?> returnType, String idfPrefix, float positionalIncrement, final List subreportData) throws ReportEngineReflectionException {
         final ReportData reportData = container.getReportData();
         final ReportConfigurator configurator = container.getConfigurator();
+        reportDataParser.clearCollectedState();
         final ReportDataParser<?> parse = reportDataParser.parse(subreportData, reportData.getReportName(), returnType, configurator.getReportGenerator().getConfigurator(returnType, reportData.getReportName()), positionalIncrement, idfPrefix);
         final ReportData data = parse.getContainer().getReportData();
         container.getSubreportsData().add(data);
@@ -299,26 +405,29 @@ public final class ReportDataParser<T> extends ReportParser {
         final List<T> list = container.getData();
         final ReportData reportData = container.getReportData();
         final Class<T> clazz = container.getClazz();
+        final ReportAccessorPlan accessorPlan = ReportAccessorPlan.forClass(clazz, reportData.getReportName());
         for (ReportSpecialColumn specialColumn : reportData.getConfiguration().getSpecialColumns()) {
-            Method method = null;
+            ValueGetter getter = null;
             if(ValueType.METHOD.equals(specialColumn.getValueType())){
-                method = MethodUtils.getMatchingMethod(clazz, specialColumn.getValue());
+                getter = accessorPlan.getMethodGetter(specialColumn.getValue());
             }
             for (int i = 0; i < list.size(); i++) {
                 Object value = specialColumn.getValue();
-                if(method != null) {
-                    final T listElement = list.get(i);
-                    method.setAccessible(true);
-                    value = ReflectionUtils.invokeMethod(method, listElement);
+                if(getter != null) {
+                    value = getter.get(list.get(i));
                 }
-                reportData.getDataRows().get(i).addCell(new DataCell(
+                final DataCell dataCell = new DataCell(
                         specialColumn.getPosition(),
                         false,
                         specialColumn.getFormat(),
                         value,
                         specialColumn.getValueType(),
                         specialColumn.getColumnWidth()
-                ));
+                );
+                reportData.getDataRows().get(i).addCell(dataCell);
+                if(estimatedAutoSize) {
+                    reportData.updateColumnLength(dataCell);
+                }
             }
         }
     }
@@ -326,45 +435,52 @@ public final class ReportDataParser<T> extends ReportParser {
     private void parseSpecialRows(final ReportListDataContainer<T> container) throws ReportEngineReflectionException {
         final ReportData reportData = container.getReportData();
         final Class<T> clazz = container.getClazz();
-        for(ReportSpecialRow specialRow : reportData.getConfiguration().getSpecialRows()){
+        final List<ReportSpecialRow> specialRows = reportData.getConfiguration().getSpecialRows();
+        for(int rowIndex = 0; rowIndex < specialRows.size(); rowIndex++){
+            final ReportSpecialRow specialRow = specialRows.get(rowIndex);
             final SpecialDataRow specialDataRow = new SpecialDataRow(specialRow.getRowIndex(), specialRow.isStickyRow());
-            for (final ReportSpecialRowCell specialRowCell : specialRow.getCells()) {
+            for (int cellIndex = 0; cellIndex < specialRow.getCells().size(); cellIndex++) {
+                final ReportSpecialRowCell specialRowCell = specialRow.getCells().get(cellIndex);
+                final Pair<Integer, Integer> collectedKey = Pair.of(rowIndex, cellIndex);
                 if(!specialRowCell.getValueType().equals(ValueType.COLLECTED_VALUE) && !specialRowCell.getValueType().equals(ValueType.COLLECTED_FORMULA_VALUE)) {
                     specialDataRow.addCell(createSpecialDataCell(container, specialRowCell, specialRowCell.getValue()));
                 } else if(specialRowCell.getValueType().equals(ValueType.COLLECTED_VALUE) && CollectedValues.class.isAssignableFrom(clazz)){
-                    parseSpecialRowCollectedValue(container, specialDataRow, specialRowCell);
+                    parseSpecialRowCollectedValue(container, specialDataRow, specialRowCell, collectedKey);
                 } else if(specialRowCell.getValueType().equals(ValueType.COLLECTED_FORMULA_VALUE) && CollectedFormulaValues.class.isAssignableFrom(clazz)) {
-                    parseSpecialRowCollectedFormulaValue(container, specialDataRow, specialRowCell);
+                    parseSpecialRowCollectedFormulaValue(container, specialDataRow, specialRowCell, collectedKey);
                 }
             }
             reportData.addSpecialRow(specialDataRow);
         }
     }
 
-    private void parseSpecialRowCollectedFormulaValue(final ReportListDataContainer<T> container, SpecialDataRow specialDataRow, ReportSpecialRowCell specialRowCell) {
+    private void parseSpecialRowCollectedFormulaValue(final ReportListDataContainer<T> container, SpecialDataRow specialDataRow, ReportSpecialRowCell specialRowCell, Pair<Integer, Integer> collectedKey) {
         Pair<String, String> pair = Pair.of(container.getReportData().getReportName(), specialRowCell.getTargetId());
-        Map<String, List<Integer>> valuesById = new HashMap<>();
+        // Row indexes are accumulated between the chunks of a pull-based parse
+        final List<Integer> rowIndexes = collectedFormulaRows.computeIfAbsent(collectedKey, key -> new ArrayList<>());
         List<T> list = container.getData();
         for (int i = 0; i < list.size(); i++) {
             CollectedFormulaValues collectedFormulaValues = (CollectedFormulaValues) list.get(i);
             if(collectedFormulaValues.isCollectedFormulaValue().get(pair).getAsBoolean()){
-                if(!valuesById.containsKey(pair.getRight())){
-                    valuesById.put(pair.getRight(), new ArrayList<>());
-                }
-                valuesById.get(pair.getRight()).add(i);
+                rowIndexes.add(rowOffset + i);
             }
         }
+        Map<String, List<Integer>> valuesById = new HashMap<>();
+        if(!rowIndexes.isEmpty()) {
+            valuesById.put(pair.getRight(), rowIndexes);
+        }
         SpecialDataCell specialDataCell = createSpecialDataCell(container, specialRowCell, specialRowCell.getValue()).setValuesById(valuesById);
         specialDataRow.addCell(specialDataCell);
     }
 
-    private void parseSpecialRowCollectedValue(final ReportListDataContainer<T> container, SpecialDataRow specialDataRow, ReportSpecialRowCell specialRowCell) throws ReportEngineReflectionException {
+    private void parseSpecialRowCollectedValue(final ReportListDataContainer<T> container, SpecialDataRow specialDataRow, ReportSpecialRowCell specialRowCell, Pair<Integer, Integer> collectedKey) throws ReportEngineReflectionException {
         final Class<T> clazz = container.getClazz();
         final ReportData reportData = container.getReportData();
         final T newInstance = ReflectionUtils.newInstance(clazz);
         Pair<String, String> pair = Pair.of(reportData.getReportName(), specialRowCell.getValue());
         if(CollectedValues.class.isAssignableFrom(clazz)){
-            final List<Object> list = new ArrayList<>();
+            // Values are accumulated between the chunks of a pull-based parse
+            final List<Object> list = collectedValues.computeIfAbsent(collectedKey, key -> new ArrayList<>());
             for (final T t : container.getData()) {
                 final CollectedValues<?,?> values = (CollectedValues<?,?>) t;
                 if(values.isCollectedValue().get(pair).getAsBoolean()){
@@ -376,6 +492,49 @@ public final class ReportDataParser<T> extends ReportParser {
         }
     }
 
+    /**
+     * Adds the rows of the report (or of the chunk) to the aggregates of the special row formulas.
+     * Rows are complete here, subreport columns included, and their cells are sorted as the header.
+     */
+    private void computeFormulaAggregates(final ReportData reportData) {
+        final List<SpecialDataRow> specialRows = reportData.getSpecialRows();
+        for (int rowIndex = 0; rowIndex < specialRows.size(); rowIndex++) {
+            final List<SpecialDataCell> cells = specialRows.get(rowIndex).getCells();
+            for (int cellIndex = 0; cellIndex < cells.size(); cellIndex++) {
+                final SpecialDataCell specialCell = cells.get(cellIndex);
+                final Integer columnIndex = reportData.getColumnIndexForId(specialCell.getTargetId());
+                final boolean formula = ValueType.FORMULA.equals(specialCell.getValueType());
+                if(columnIndex == null || !formula && !ValueType.COLLECTED_FORMULA_VALUE.equals(specialCell.getValueType())) {
+                    continue;
+                }
+                FormulaAggregate aggregate = formulaAggregates.get(Pair.of(rowIndex, cellIndex));
+                if(aggregate == null) {
+                    // Formulas reference the target column by any id, and collected formulas by the target id only
+                    aggregate = FormulaAggregate.forFormula(specialCell.getValue().toString(),
+                            formula ? reportData.getTargetIndexes()::containsKey : specialCell.getTargetId()::equals);
+                    if(aggregate == null) {
+                        continue;
+                    }
+                    formulaAggregates.put(Pair.of(rowIndex, cellIndex), aggregate);
+                }
+                if(formula) {
+                    for (final DataRow dataRow : reportData.getDataRows()) {
+                        aggregate.add(dataRow.getCell(columnIndex));
+                    }
+                } else {
+                    final Map<String, List<Integer>> valuesById = (Map<String, List<Integer>>) specialCell.getValuesById();
+                    for (final Integer collectedRow : valuesById.getOrDefault(specialCell.getTargetId(), Collections.emptyList())) {
+                        // Collected rows of the previous chunks are already aggregated
+                        if(collectedRow >= rowOffset) {
+                            aggregate.add(reportData.getDataRows().get(collectedRow - rowOffset).getCell(columnIndex));
+                        }
+                    }
+                }
+                specialCell.setFormulaResult(aggregate.getResult());
+            }
+        }
+    }
+
     private static <T> SpecialDataCell createSpecialDataCell(final ReportListDataContainer<T> container, ReportSpecialRowCell specialRowCell, Object value) {
         return new SpecialDataCell(
                 specialRowCell.getValueType(),
@@ -393,23 +552,75 @@ public final class ReportDataParser<T> extends ReportParser {
         final ReportData reportData = container.getReportData();
         final Class<T> clazz = container.getClazz();
         final List<T> data = container.getData();
-        super.parseStyles(container);
+        // Report level styles are parsed once with the report structure
+        if(!chunked) {
+            super.parseStyles(container);
+        }
         if(ConditionalRowStyles.class.isAssignableFrom(clazz) || ConditionalCellStyles.class.isAssignableFrom(clazz)){
             final int startRowIndex = reportData.getConfiguration().getDataStartRowIndex();
             ReportStylesBuilder reportStylesBuilder = reportData.getStyles().getReportStylesBuilder();
             if(reportStylesBuilder == null){
                 reportStylesBuilder = reportData.getStyles().createReportStylesBuilder();
             }
+            // The formulas apply to the whole report, so they are read from a new instance instead of any of the entries
+            final T reportInstance = ReflectionUtils.newInstance(clazz);
+            final boolean rowStylesFormula = ConditionalRowStyles.class.isAssignableFrom(clazz) &&
+                    parseConditionalRowFormula(container, (ConditionalRowStyles) reportInstance);
+            final Set<String> cellStylesFormulaColumns = ConditionalCellStyles.class.isAssignableFrom(clazz) ?
+                    parseConditionalCellFormulas(container, (ConditionalCellStyles) reportInstance) : Collections.emptySet();
             for(int i = 0; i < data.size(); i++) {
                 final T entry = data.get(i);
-                if(ConditionalRowStyles.class.isAssignableFrom(clazz)) {
-                    parseConfitionalRowStyles(container, startRowIndex, reportStylesBuilder, i, (ConditionalRowStyles) entry);
+                if(ConditionalRowStyles.class.isAssignableFrom(clazz) && !rowStylesFormula) {
+                    parseConfitionalRowStyles(container, startRowIndex, reportStylesBuilder, rowOffset + i, (ConditionalRowStyles) entry);
                 }
                 if(ConditionalCellStyles.class.isAssignableFrom(clazz)) {
-                    parseConditionalCellStyles(container, startRowIndex, reportStylesBuilder, i, (ConditionalCellStyles) entry);
+                    parseConditionalCellStyles(container, startRowIndex, reportStylesBuilder, rowOffset + i, (ConditionalCellStyles) entry, cellStylesFormulaColumns);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the row styles of the report as conditional formatting styles if the report declares a formula.
+     * Pull-based reports add them with the report structure, not with the chunks.
+     * @return true if the report has a row styles formula
+     */
+    private boolean parseConditionalRowFormula(final ReportListDataContainer<T> container, final ConditionalRowStyles entry) {
+        final ReportData reportData = container.getReportData();
+        final String formula = entry.getConditionalFormula().get(reportData.getReportName());
+        if(formula == null) {
+            return false;
+        }
+        if(!chunked) {
+            final List<ReportStyleBuilder<HorizontalRange>> horizontalRangedStyleBuilders = entry.getIndexBasedStyle().getOrDefault(reportData.getReportName(), new ArrayList<>());
+            for(ReportStyleBuilder<HorizontalRange> styleBuilder : horizontalRangedStyleBuilders) {
+                reportData.getStyles().addConditionalFormattingStyle(new ConditionalFormattingStyle(formula, styleBuilder.toRectangeRangeStyleBuilder(), null));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the cell styles of the columns with formula as conditional formatting styles.
+     * Pull-based reports add them with the report structure, not with the chunks.
+     * @return the ids of the columns with formula
+     */
+    private Set<String> parseConditionalCellFormulas(final ReportListDataContainer<T> container, final ConditionalCellStyles entry) {
+        final ReportData reportData = container.getReportData();
+        final List<Pair<String, String>> formulas = entry.getConditionalCellFormulas().getOrDefault(reportData.getReportName(), Collections.emptyList());
+        final Set<String> columnIds = new HashSet<>();
+        for(Pair<String, String> formula : formulas) {
+            columnIds.add(formula.getLeft());
+            if(!chunked) {
+                final List<Pair<String, ReportStyleBuilder<Position>>> styleBuilders = entry.getIndexBasedCellStyle().getOrDefault(reportData.getReportName(), Collections.emptyList());
+                for(Pair<String, ReportStyleBuilder<Position>> styleBuilderPair : styleBuilders) {
+                    if(styleBuilderPair.getLeft().equals(formula.getLeft())) {
+                        reportData.getStyles().addConditionalFormattingStyle(new ConditionalFormattingStyle(formula.getRight(), styleBuilderPair.getRight().toRectangeRangeStyleBuilder(), formula.getLeft()));
+                    }
                 }
             }
         }
+        return columnIds;
     }
 
     private void parseConfitionalRowStyles(final ReportListDataContainer<T> container, int startRowIndex, ReportStylesBuilder reportStylesBuilder, int i, ConditionalRowStyles entry) {
@@ -426,7 +637,7 @@ public final class ReportDataParser<T> extends ReportParser {
         }
     }
 
-    private void parseConditionalCellStyles(final ReportListDataContainer<T> container, int startRowIndex, ReportStylesBuilder reportStylesBuilder, int i, ConditionalCellStyles entry) {
+    private void parseConditionalCellStyles(final ReportListDataContainer<T> container, int startRowIndex, ReportStylesBuilder reportStylesBuilder, int i, ConditionalCellStyles entry, Set<String> formulaColumnIds) {
         final ReportData reportData = container.getReportData();
         final Optional<Map<String, List<Pair<String, Predicate<Integer>>>>> styledOptional = Optional.ofNullable(entry.isCellStyled());
         final List<Pair<String, Predicate<Integer>>> predicatePairs = styledOptional
@@ -434,7 +645,7 @@ public final class ReportDataParser<T> extends ReportParser {
                 .getOrDefault(reportData.getReportName(), null);
         final List<Pair<String, ReportStyleBuilder<Position>>> styleBuilders = entry.getIndexBasedCellStyle().getOrDefault(reportData.getReportName(), null);
         for(Pair<String, Predicate<Integer>> predicatePair : predicatePairs) {
-            if(predicatePair.getRight() != null && predicatePair.getRight().test(i)) {
+            if(predicatePair.getRight() != null && !formulaColumnIds.contains(predicatePair.getLeft()) && predicatePair.getRight().test(i)) {
                 for(Pair<String, ReportStyleBuilder<Position>> styleBuilderPair : styleBuilders) {
                     if(styleBuilderPair.getLeft().equals(predicatePair.getLeft())) {
                         final ReportStyleBuilder<Position> positionedStyleBuilder = styleBuilderPair.getRight();
@@ -4,14 +4,20 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.log4j.Level;
 import org.greports.exceptions.ReportEngineReflectionException;
 import org.greports.exceptions.ReportEngineRuntimeException;
+import org.greports.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 public class ReportGenerator {
 
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
     private final Map<Pair<Class<?>, String>, ReportConfigurator> _configurators = new HashMap<>();
 
     private final boolean loggerEnabled;
@@ -36,6 +42,54 @@ public class ReportGenerator {
         return this;
     }
 
+    public <T> ReportGenerator parseIterator(final Iterator<T> iterator, final String reportName, Class<T> clazz) throws ReportEngineReflectionException {
+        return this.parseIterator(iterator, reportName, clazz, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Parses the report structure and pulls the entries from the iterator in chunks of {@code chunkSize}
+     * while the report is written. Combined with the streaming mode only one chunk of entries is kept in memory.
+     * The iterator is consumed when the report is written, so the result cannot be changed
+     * with {@link ReportResultChanger} nor cloned. Iterable subreports are not supported and report styles
+     * receive a rows count of 0. In streaming mode, special rows above the data cannot have formulas over the data.
+     *
+     * @param iterator entries source
+     * @param reportName report name
+     * @param clazz entries class
+     * @param chunkSize max number of entries parsed at once
+     * @param <T> entries class
+     * @return the report generator
+     * @throws ReportEngineReflectionException if the report structure cannot be parsed
+     */
+    public <T> ReportGenerator parseIterator(final Iterator<T> iterator, final String reportName, Class<T> clazz, final int chunkSize) throws ReportEngineReflectionException {
+        ReportDataParser<T> reportDataParser = new ReportDataParser<>(this.loggerEnabled, this.level);
+        final ReportData reportData = reportDataParser.parse(iterator, chunkSize, reportName, clazz, getConfigurator(clazz, reportName)).getContainer().getReportData();
+        reportGeneratorResult.addData(reportData);
+        return this;
+    }
+
+    /**
+     * The stream is closed when its last chunk has been read, or when the report cannot be parsed or injected,
+     * so its close handlers release the resources it reads from.
+     * @see #parseIterator(Iterator, String, Class, int)
+     */
+    public <T> ReportGenerator parseStream(final Stream<T> stream, final String reportName, Class<T> clazz) throws ReportEngineReflectionException {
+        Utils.validateNotNull(stream);
+        ReportDataParser<T> reportDataParser = new ReportDataParser<>(this.loggerEnabled, this.level);
+        final ReportData reportData = reportDataParser.parse(stream.iterator(), DEFAULT_CHUNK_SIZE, reportName, clazz, getConfigurator(clazz, reportName), stream::close).getContainer().getReportData();
+        reportGeneratorResult.addData(reportData);
+        return this;
+    }
+
+    /**
+     * Parses the entries returned by the page supplier. Pages are requested by index starting at 0
+     * until the supplier returns a null or empty page.
+     * @see #parseIterator(Iterator, String, Class, int)
+     */
+    public <T> ReportGenerator parsePages(final IntFunction<List<T>> pageSupplier, final String reportName, Class<T> clazz) throws ReportEngineReflectionException {
+        return this.parseIterator(new ReportPagedIterator<>(pageSupplier), reportName, clazz, DEFAULT_CHUNK_SIZE);
+    }
+
     public <T> ReportGenerator parseSingleObject(final T object, final String reportName, Class<T> clazz) throws ReportEngineReflectionException {
         ReportSingleDataParser<T> reportSingleDataParser = new ReportSingleDataParser<>(this.loggerEnabled, this.level);
         final ReportData data = reportSingleDataParser.parse(object, reportName, clazz, getConfigurator(clazz, reportName)).getContainer().getReportData();
@@ -66,6 +120,21 @@ public class ReportGenerator {
         return this;
     }
 
+    public ReportGenerator setStreamingMode(boolean streamingMode) {
+        this.reportGeneratorResult.setStreamingMode(streamingMode);
+        return this;
+    }
+
+    public ReportGenerator setStreamingWindowSize(int streamingWindowSize) {
+        this.reportGeneratorResult.setStreamingWindowSize(streamingWindowSize);
+        return this;
+    }
+
+    public ReportGenerator setValidateMergedRegions(boolean validateMergedRegions) {
+        this.reportGeneratorResult.setValidateMergedRegions(validateMergedRegions);
+        return this;
+    }
+
     public ReportConfigurator getConfigurator(final Class<?> clazz, final String reportName){
         final Pair<Class<?>, String> key = Pair.of(clazz, reportName);
         if(!_configurators.containsKey(key)){
@@ -77,6 +77,35 @@ public class ReportGeneratorResult implements Serializable {
         this.reportInjector.setForceFormulaRecalculation(formulaRecalculation);
     }
 
+    /**
+     * Enables the streaming generation mode. Raw (non-template) reports are written
+     * through a sliding window of rows, so the heap used by the workbook does not
+     * depend on the number of rows. Reports with template are always generated in memory.
+     *
+     * @param streamingMode {@code true} to enable streaming mode
+     */
+    public void setStreamingMode(boolean streamingMode) {
+        this.reportInjector.setStreamingMode(streamingMode);
+    }
+
+    /**
+     * @param streamingWindowSize number of rows kept in memory when streaming mode is enabled
+     */
+    public void setStreamingWindowSize(int streamingWindowSize) {
+        this.reportInjector.setStreamingWindowSize(streamingWindowSize);
+    }
+
+    /**
+     * Validates all the merged regions of every sheet after the report data is injected.
+     * The engine only registers merged regions without the overlap check when they do not intersect,
+     * so this is a debugging aid and makes the generation quadratic in the number of merged regions.
+     *
+     * @param validateMergedRegions {@code true} to validate the merged regions
+     */
+    public void setValidateMergedRegions(boolean validateMergedRegions) {
+        this.reportInjector.setValidateMergedRegions(validateMergedRegions);
+    }
+
     /**
      * @param filePath File path
      * @throws IOException exception opening the stream to write to
@@ -7,7 +7,11 @@ import org.apache.poi.ss.formula.functions.FreeRefFunction;
 import org.apache.poi.ss.formula.udf.AggregatingUDFFinder;
 import org.apache.poi.ss.formula.udf.DefaultUDFFinder;
 import org.apache.poi.ss.formula.udf.UDFFinder;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.greports.exceptions.ReportEngineRuntimeException;
@@ -15,11 +19,17 @@ import org.greports.services.LoggerService;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ReportInjector {
 
     private XSSFWorkbook currentWorkbook;
+    private SXSSFWorkbook streamingWorkbook;
+    private WorkbookStylesCache stylesCache;
     private final List<ReportData> reportData;
     private final boolean loggerEnabled;
     protected LoggerService loggerService;
@@ -27,6 +37,13 @@ public class ReportInjector {
     private final List<CustomFunction> functions;
     private boolean evaluateFormulas;
     private boolean forceFormulaRecalculation;
+    private boolean streamingMode;
+    private boolean validateMergedRegions;
+    private boolean templateWorkbook;
+    private Map<String, TemplatePlan> templatePlans;
+    private final StringBuilder templatePlanKey = new StringBuilder();
+    private final Map<Sheet, Set<Cell>> formulaCells = new LinkedHashMap<>();
+    private int streamingWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
 
     public ReportInjector(List<ReportData> reportData,
                           final List<String> deleteSheet,
@@ -49,30 +66,62 @@ public class ReportInjector {
             for (ReportData data : reportData) {
                 if(currentWorkbook == null) {
                     if(data.isReportWithTemplate()) {
-                        currentWorkbook = (XSSFWorkbook) WorkbookFactory.create(data.getTemplateURL().openStream());
+                        final TemplateWorkbookCache.OpenedTemplate template = TemplateWorkbookCache.openTemplate(data.getTemplateURL());
+                        currentWorkbook = (XSSFWorkbook) WorkbookFactory.create(template.getContent());
+                        templateWorkbook = true;
+                        templatePlans = template.getPlans();
                     } else {
                         currentWorkbook = new XSSFWorkbook();
+                        if(this.isStreamingAvailable()) {
+                            streamingWorkbook = new SXSSFWorkbook(currentWorkbook, streamingWindowSize);
+                        }
                     }
+                    stylesCache = new WorkbookStylesCache(currentWorkbook);
                     this.registerFunctions();
                 }
 
                 loggerService.info(String.format("Starting injecting data for report with name %s", data.getReportName()));
 
+                // The sheets depend on the reports injected before, so they are part of the key of the template plan.
+                // Iterable subreports add columns for every entry, so the columns count identifies the columns of the class
+                templatePlanKey.append(data.getReportClass() != null ? data.getReportClass().getName() : null)
+                        .append('/').append(data.getReportName()).append('/').append(data.getSheetName())
+                        .append('/').append(data.getColumnsCount()).append(';');
+
+                final DataInjector dataInjector;
                 if(data.isReportWithTemplate() || data.getConfiguration().isTemplatedInject()) {
-                    new TemplateDataInjector(currentWorkbook, data, loggerEnabled, loggerService.getLevel()).inject();
+                    dataInjector = new TemplateDataInjector(currentWorkbook, data, loggerEnabled, loggerService.getLevel())
+                            .setTemplatePlan(templatePlans, templatePlanKey.toString());
+                } else if(streamingWorkbook != null) {
+                    dataInjector = new RawDataInjector(streamingWorkbook, data, stylesCache, loggerEnabled, loggerService.getLevel());
                 } else {
-                    new RawDataInjector(currentWorkbook, data, loggerEnabled, loggerService.getLevel()).inject();
+                    dataInjector = new RawDataInjector(currentWorkbook, data, stylesCache, loggerEnabled, loggerService.getLevel());
                 }
+                dataInjector.setValidateMergedRegions(validateMergedRegions)
+                        .setCollectFormulaCells(evaluateFormulas && streamingWorkbook == null)
+                        .inject();
+                this.addFormulaCells(dataInjector);
 
                 loggerService.info(String.format("Report data for report with name %s was successfully injected", data.getReportName()));
             }
 
+            final Workbook targetWorkbook = this.getTargetWorkbook();
+            // The formula cells of the deleted sheets are dropped before the sheets are removed, as removed sheets cannot be read
+            for(final String sheetToDelete : deleteSheet) {
+                final Sheet sheet = currentWorkbook.getSheet(sheetToDelete);
+                if(sheet != null) {
+                    formulaCells.remove(sheet);
+                }
+            }
             for(final String sheetToDelete : deleteSheet) {
-                currentWorkbook.removeSheetAt(currentWorkbook.getSheetIndex(sheetToDelete));
+                targetWorkbook.removeSheetAt(targetWorkbook.getSheetIndex(sheetToDelete));
             }
 
-            if(evaluateFormulas) {
-                this.evaluateAllFormulas();
+            if(evaluateFormulas && streamingWorkbook != null) {
+                loggerService.warn("Formulas cannot be evaluated in streaming mode. Formula recalculation will be forced instead.");
+                currentWorkbook.setForceFormulaRecalculation(true);
+            } else if(evaluateFormulas) {
+                this.evaluateInjectedFormulas();
             }
 
             if(forceFormulaRecalculation) {
@@ -85,11 +134,46 @@ public class ReportInjector {
             throw new ReportEngineRuntimeException("Error creating a workbook", e, this.getClass());
         } catch (IOException e) {
             throw new ReportEngineRuntimeException("Error opening a stream of template url", e, this.getClass());
+        } finally {
+            // The sources of the pull-based reports are closed after their last chunk, unless the injection failed before it
+            for (ReportData data : reportData) {
+                data.closeChunkSource();
+            }
         }
     }
 
-    private void evaluateAllFormulas() {
-        XSSFFormulaEvaluator.evaluateAllFormulaCells(currentWorkbook);
+    private void addFormulaCells(final DataInjector dataInjector) {
+        final List<Cell> injectedFormulaCells = dataInjector.getFormulaCells();
+        if(!injectedFormulaCells.isEmpty()) {
+            final Sheet sheet = injectedFormulaCells.get(0).getSheet();
+            formulaCells.computeIfAbsent(sheet, key -> new LinkedHashSet<>()).addAll(injectedFormulaCells);
+        }
+    }
+
+    /**
+     * Evaluates only the formula cells of the injected sheets with one evaluator, so the cells referenced by
+     * several formulas are evaluated once.
+     */
+    private void evaluateInjectedFormulas() {
+        Stopwatch evaluationStopwatch = Stopwatch.createStarted();
+        loggerService.trace("Evaluating formulas...");
+
+        final XSSFFormulaEvaluator evaluator = currentWorkbook.getCreationHelper().createFormulaEvaluator();
+        for (final Set<Cell> cells : formulaCells.values()) {
+            evaluateFormulaCells(evaluator, cells);
+        }
+
+        // The formulas of the sheets which were not injected are recalculated when the workbook is opened
+        if(templateWorkbook) {
+            currentWorkbook.setForceFormulaRecalculation(true);
+        }
+        loggerService.trace("Formulas evaluated. Time: " + evaluationStopwatch.stop());
+    }
+
+    private static void evaluateFormulaCells(final XSSFFormulaEvaluator evaluator, final Set<Cell> cells) {
+        for (final Cell cell : cells) {
+            evaluator.evaluateFormulaCell(cell);
+        }
     }
 
     public void setEvaluateFormulas(boolean evaluateFormulas) {
@@ -100,6 +184,34 @@ public class ReportInjector {
         this.forceFormulaRecalculation = formulaRecalculation;
     }
 
+    public void setStreamingMode(boolean streamingMode) {
+        this.streamingMode = streamingMode;
+    }
+
+    public void setValidateMergedRegions(boolean validateMergedRegions) {
+        this.validateMergedRegions = validateMergedRegions;
+    }
+
+    public void setStreamingWindowSize(int streamingWindowSize) {
+        if(streamingWindowSize < 1) {
+            throw new ReportEngineRuntimeException("streamingWindowSize needs to be greater than zero", this.getClass());
+        }
+        this.streamingWindowSize = streamingWindowSize;
+    }
+
+    private boolean isStreamingAvailable() {
+        if(!streamingMode) {
+            return false;
+        }
+        final boolean templated = reportData.stream().anyMatch(data -> data.isReportWithTemplate() || data.getConfiguration().isTemplatedInject());
+        loggerService.warn("Streaming mode is not available for reports with template. The report will be generated in memory.", templated);
+        return !templated;
+    }
+
+    private Workbook getTargetWorkbook() {
+        return streamingWorkbook != null ? streamingWorkbook : currentWorkbook;
+    }
+
     private void registerFunctions() {
         final String[] functionNames = new String[functions.size()];
         final FreeRefFunction[] functionImpls = new FreeRefFunction[functions.size()];
@@ -115,8 +227,12 @@ public class ReportInjector {
     }
 
     void writeToFileOutputStream(OutputStream fileOutputStream) throws IOException {
-        currentWorkbook.write(fileOutputStream);
+        final Workbook targetWorkbook = this.getTargetWorkbook();
+        targetWorkbook.write(fileOutputStream);
         fileOutputStream.close();
-        currentWorkbook.close();
+        if(streamingWorkbook != null) {
+            streamingWorkbook.dispose();
+        }
+        targetWorkbook.close();
     }
 }
@@ -1,22 +1,20 @@
 package org.greports.engine;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.greports.annotations.CellValidator;
 import org.greports.exceptions.ReportEngineReflectionException;
 import org.greports.exceptions.ReportEngineRuntimeException;
 import org.greports.exceptions.ReportEngineValidationException;
 import org.greports.utils.AnnotationUtils;
-import org.greports.utils.ConverterUtils;
-import org.greports.utils.NumberFactory;
 import org.greports.utils.ReflectionUtils;
 import org.greports.utils.Translator;
+import org.greports.utils.Utils;
 
 import java.io.File;
 import java.io.IOException;
@@ -25,12 +23,21 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 public class ReportLoader {
 
@@ -38,12 +45,17 @@ public class ReportLoader {
         SKIP_ROW_ON_ERROR, SKIP_COLUMN_ON_ERROR, THROW_ERROR
     }
 
+    private static final int PARALLEL_CHUNK_SIZE = 512;
+
     private final String reportName;
     private final XSSFWorkbook currentWorkbook;
+    private final StreamingLoaderWorkbook streamingWorkbook;
     private final ReportLoaderResult loaderResult;
     private ReportLoaderValidator validator;
     private final ReportDataReader reader;
     private Translator tranlator;
+    private boolean parallelBinding;
+    private Executor parallelBindingExecutor = ForkJoinPool.commonPool();
 
     public ReportLoader(String filePath) throws IOException, InvalidFormatException {
         this(new File(filePath), null);
@@ -72,10 +84,69 @@ public class ReportLoader {
     private ReportLoader(XSSFWorkbook workbook, String reportName) {
         this.reportName = reportName;
         this.currentWorkbook = workbook;
+        this.streamingWorkbook = null;
         this.loaderResult = new ReportLoaderResult();
         this.reader = new ReportDataReader(this.currentWorkbook);
     }
 
+    private ReportLoader(StreamingLoaderWorkbook streamingWorkbook, String reportName) {
+        this.reportName = reportName;
+        this.currentWorkbook = null;
+        this.streamingWorkbook = streamingWorkbook;
+        this.loaderResult = new ReportLoaderResult();
+        this.reader = null;
+    }
+
+    public static ReportLoader streaming(String filePath) throws IOException, InvalidFormatException {
+        return streaming(new File(filePath), null);
+    }
+
+    public static ReportLoader streaming(String filePath, String reportName) throws IOException, InvalidFormatException {
+        return streaming(new File(filePath), reportName);
+    }
+
+    public static ReportLoader streaming(File file) throws IOException, InvalidFormatException {
+        return streaming(file, null);
+    }
+
+    /**
+     * Creates a loader which reads the rows of the sheets with the XSSF event model while they are bound,
+     * without loading the workbook in memory. {@link #getReader()} is not available for streaming loaders.
+     * @param file xlsx file
+     * @param reportName report name
+     * @return the streaming loader of the file
+     * @throws IOException exception reading the file
+     * @throws InvalidFormatException the file is not a xlsx file
+     */
+    public static ReportLoader streaming(File file, String reportName) throws IOException, InvalidFormatException {
+        return streaming(OPCPackage.open(file, PackageAccess.READ), reportName);
+    }
+
+    public static ReportLoader streaming(InputStream inputStream) throws IOException, InvalidFormatException {
+        return streaming(inputStream, null);
+    }
+
+    /**
+     * Streaming loaders opened from a stream keep the compressed file in memory. Open them from a file to read large files.
+     * @param inputStream stream of a xlsx file
+     * @param reportName report name
+     * @return the streaming loader of the stream
+     * @throws IOException exception reading the stream
+     * @throws InvalidFormatException the stream is not a xlsx file
+     */
+    public static ReportLoader streaming(InputStream inputStream, String reportName) throws IOException, InvalidFormatException {
+        return streaming(OPCPackage.open(inputStream), reportName);
+    }
+
+    private static ReportLoader streaming(OPCPackage opcPackage, String reportName) throws IOException {
+        try {
+            return new ReportLoader(new StreamingLoaderWorkbook(opcPackage), reportName);
+        } catch (IOException | RuntimeException e) {
+            opcPackage.revert();
+            throw e;
+        }
+    }
+
     public <T> ReportLoader bindForClass(Class<T> clazz) throws ReportEngineReflectionException {
         return bindForClass(clazz, this.reportName, ReportLoaderErrorTreatment.THROW_ERROR, -1, Integer.MAX_VALUE);
     }
@@ -97,6 +168,49 @@ public class ReportLoader {
             throw new ReportEngineRuntimeException("reportName cannot be null", this.getClass());
         }
         ReportConfiguration configuration = ReportConfigurationLoader.load(clazz, reportName);
+        final ReportBlock reportBlock = loadReportBlock(clazz, reportName, configuration);
+        final List<T> list = bindBlocks(reportBlock, clazz, configuration, errorTreatment, new ArrayList<>(), fromRow, toRow);
+        this.loaderResult.addResult(clazz, list);
+        return this;
+    }
+
+    public <T> ReportLoader bindForClass(Class<T> clazz, int batchSize, Consumer<ReportLoaderResult> batchConsumer) throws ReportEngineReflectionException {
+        return bindForClass(clazz, this.reportName, ReportLoaderErrorTreatment.THROW_ERROR, batchSize, batchConsumer);
+    }
+
+    public <T> ReportLoader bindForClass(Class<T> clazz, ReportLoaderErrorTreatment errorTreatment, int batchSize, Consumer<ReportLoaderResult> batchConsumer) throws ReportEngineReflectionException {
+        return bindForClass(clazz, this.reportName, errorTreatment, batchSize, batchConsumer);
+    }
+
+    /**
+     * Binds the data rows in batches and hands the result of every batch over to the consumer, so the loader
+     * does not keep the instances nor the errors. Column validations are checked for the values of every batch.
+     * @param clazz report class
+     * @param reportName report name
+     * @param errorTreatment error treatment
+     * @param batchSize number of rows of every batch
+     * @param batchConsumer consumer of the result of every batch, with the instances and the errors of its rows
+     * @param <T> report class type
+     * @return the loader
+     * @throws ReportEngineReflectionException exception binding the rows
+     */
+    public <T> ReportLoader bindForClass(Class<T> clazz, String reportName, ReportLoaderErrorTreatment errorTreatment, int batchSize, Consumer<ReportLoaderResult> batchConsumer) throws ReportEngineReflectionException {
+        if(reportName == null) {
+            throw new ReportEngineRuntimeException("reportName cannot be null", this.getClass());
+        }
+        if(batchSize < 1) {
+            throw new ReportEngineRuntimeException("batchSize must be greater than zero", this.getClass());
+        }
+        ReportConfiguration configuration = ReportConfigurationLoader.load(clazz, reportName);
+        final ReportBlock reportBlock = loadReportBlock(clazz, reportName, configuration);
+        final ReportLoaderSheet sheet = getSheet(configuration.getSheetName());
+        final BatchBinder<T> batchBinder = new BatchBinder<>(reportBlock, clazz, configuration, errorTreatment, sheet, batchSize, batchConsumer);
+        sheet.readRows(configuration.getDataStartRowIndex(), Integer.MAX_VALUE, AnnotationUtils.getLastSpecialRowsCount(configuration), batchBinder);
+        batchBinder.flush();
+        return this;
+    }
+
+    private ReportBlock loadReportBlock(Class<?> clazz, String reportName, ReportConfiguration configuration) throws ReportEngineReflectionException {
         this.tranlator = new Translator(configuration);
         this.validator = new ReportLoaderValidator(configuration);
         final ReportBlock reportBlock = new ReportBlock(clazz, reportName, null);
@@ -104,9 +218,7 @@ public class ReportLoader {
         reportBlock
                 .orderBlocks()
                 .setBlockIndexes(0);
-        final List<T> list = bindBlocks(reportBlock, clazz, configuration, errorTreatment, new ArrayList<>(), fromRow, toRow);
-        this.loaderResult.addResult(clazz, list);
-        return this;
+        return reportBlock;
     }
 
     public void loadBlocks(ReportBlock reportBlock) throws ReportEngineReflectionException {
@@ -131,86 +243,117 @@ public class ReportLoader {
     }
 
     protected <T> List<T> bindBlocks(ReportBlock reportBlock, Class<T> clazz, ReportConfiguration configuration, ReportLoaderErrorTreatment errorTreatment, List<Integer> skipRows, int fromRow, int toRow) throws ReportEngineReflectionException {
-        List<T> instancesList = new ArrayList<>();
-        final Sheet sheet = currentWorkbook.getSheet(configuration.getSheetName());
-        boolean errorThrown = false;
+        final BitSet skippedRows = new BitSet();
+        skipRows.forEach(skippedRows::set);
+        final BitSet previouslySkippedRows = (BitSet) skippedRows.clone();
+        final List<T> instancesList = bindBlocks(reportBlock, clazz, configuration, errorTreatment, skippedRows, fromRow, toRow, this.loaderResult);
+        skippedRows.andNot(previouslySkippedRows);
+        skippedRows.stream().forEach(skipRows::add);
+        return instancesList;
+    }
+
+    private <T> List<T> bindBlocks(ReportBlock reportBlock, Class<T> clazz, ReportConfiguration configuration, ReportLoaderErrorTreatment errorTreatment, BitSet skippedRows, int fromRow, int toRow, ReportLoaderResult result) throws ReportEngineReflectionException {
+        final ReportLoaderSheet sheet = getSheet(configuration.getSheetName());
 
         if(fromRow > toRow) {
             throw new ReportEngineRuntimeException("fromRow cannot be greater than toRow", this.getClass());
         }
 
-        try {
-            Method method;
-            int dataRowNum = configuration.getDataStartRowIndex();
-            int dataRowMaxNum = sheet.getLastRowNum() - AnnotationUtils.getLastSpecialRowsCount(configuration);
+        int dataRowNum = configuration.getDataStartRowIndex();
+        int dataRowMaxNum = Integer.MAX_VALUE;
+        int trailingRows = AnnotationUtils.getLastSpecialRowsCount(configuration);
 
-            if(fromRow > -1) {
-                dataRowNum = configuration.getDataStartRowIndex() + fromRow;
-            }
-            if(Integer.MAX_VALUE != toRow) {
-                dataRowMaxNum = configuration.getDataStartRowIndex() + toRow;
-            }
+        if(fromRow > -1) {
+            dataRowNum = configuration.getDataStartRowIndex() + fromRow;
+        }
+        if(Integer.MAX_VALUE != toRow) {
+            dataRowMaxNum = configuration.getDataStartRowIndex() + toRow;
+            trailingRows = 0;
+        }
 
-            for (; dataRowNum <= dataRowMaxNum; dataRowNum++) {
-                if (!skipRows.contains(dataRowNum)) {
-                    final T instance = ReflectionUtils.newInstance(clazz);
-                    final Row row = sheet.getRow(dataRowNum);
-                    for (final ReportBlock block : reportBlock.getBlocks()) {
-                        if (block.isColumn()) {
-                            method = block.getParentMethod();
-                            final Cell cell = row.getCell(block.getStartColumn(), Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                            errorThrown = bindCellValueToClassAttr(clazz, method, instance, block, cell, errorTreatment);
-                        }
-                    }
-                    if (!errorThrown || !ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR.equals(errorTreatment)) {
-                        instancesList.add(instance);
-                    }
-                    if (errorThrown && ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR.equals(errorTreatment)) {
-                        skipRows.add(dataRowNum);
-                    }
-                    errorThrown = false;
-                }
-            }
+        final ReportLoaderPlan plan = ReportLoaderPlan.compile(reportBlock);
+        final RowsBinding<T> binding = new RowsBinding<>(result, skippedRows, false);
+        if(parallelBinding) {
+            final ParallelBinder<T> parallelBinder = new ParallelBinder<>(plan, clazz, errorTreatment, sheet, binding);
+            sheet.readRows(dataRowNum, dataRowMaxNum, trailingRows, parallelBinder);
+            parallelBinder.finish();
+        } else {
+            sheet.readRows(dataRowNum, dataRowMaxNum, trailingRows, (rowIndex, cells) ->
+                bindRow(plan, clazz, errorTreatment, sheet, rowIndex, cells, binding)
+            );
+        }
 
-            bindSubBlocks(reportBlock, clazz, configuration, errorTreatment, skipRows, fromRow, toRow, instancesList, sheet);
+        checkColumnValidations(reportBlock, configuration, fromRow, sheet, result);
+        return binding.instances;
+    }
 
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new ReportEngineReflectionException("Error executing method witch does not have access to the definition of the specified class", e, clazz);
+    /**
+     * Binds the instance of the report class of a row and all its subreports instances.
+     */
+    private <T> void bindRow(ReportLoaderPlan plan, Class<T> clazz, ReportLoaderErrorTreatment errorTreatment, ReportLoaderSheet sheet, int rowIndex, IntFunction<ReportLoaderCell> cells, RowsBinding<T> binding) throws ReportEngineReflectionException {
+        if (binding.skippedRows.get(rowIndex)) {
+            return;
         }
-        return instancesList;
+        final Object[] instances = new Object[plan.getNodesCount()];
+        boolean errorThrown = false;
+        for (int i = 0; i < instances.length; i++) {
+            final ReportLoaderPlan.Node node = plan.getNode(i);
+            instances[i] = ReflectionUtils.newInstance(node.getBlockClass());
+            final ReportBlock[] columns = node.getColumns();
+            for (int j = 0; j < columns.length; j++) {
+                final ReportLoaderCell cell = cells.apply(columns[j].getStartColumn());
+                errorThrown |= bindCellValueToClassAttr(node.getBlockClass(), node.getReaders()[j], instances[i], columns[j], sheet, cell, errorTreatment, binding);
+            }
+        }
+        if (errorThrown && ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR.equals(errorTreatment)) {
+            binding.skippedRows.set(rowIndex);
+            return;
+        }
+        // Every node comes after its parent, so the subreports are set once they are bound
+        for (int i = instances.length - 1; i > 0; i--) {
+            final ReportLoaderPlan.Node node = plan.getNode(i);
+            try {
+                node.getParentMethod().invoke(instances[node.getParentIndex()], instances[i]);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ReportEngineReflectionException("Error executing method witch does not have access to the definition of the specified class", e, clazz);
+            }
+        }
+        binding.instances.add(clazz.cast(instances[0]));
     }
 
-    private <T> void bindSubBlocks(ReportBlock reportBlock, Class<T> clazz, ReportConfiguration configuration, ReportLoaderErrorTreatment errorTreatment, List<Integer> skipRows, int fromRow, int toRow, List<T> instancesList, Sheet sheet) throws ReportEngineReflectionException, IllegalAccessException, InvocationTargetException {
-        Method method;
+    private void checkColumnValidations(ReportBlock reportBlock, ReportConfiguration configuration, int fromRow, ReportLoaderSheet sheet, ReportLoaderResult result) {
         for (final ReportBlock block : reportBlock.getBlocks()) {
             if (block.isSubreport()) {
-                final List<?> objects = bindBlocks(block, block.getBlockClass(), configuration, errorTreatment, skipRows, fromRow, toRow);
-                method = block.getParentMethod();
-                for (int i = 0; i < instancesList.size(); i++) {
-                    method.invoke(instancesList.get(i), objects.get(i));
-                }
+                checkColumnValidations(block, configuration, fromRow, sheet, result);
             } else if (block.isColumn()) {
                 try {
                     validator.checkColumnValidations(block.getValues(), block.getColumnValidators());
                 } catch (ReportEngineValidationException e) {
-                    loaderResult.addError(clazz, sheet.getSheetName(), e.getRowIndex() + configuration.getDataStartRowIndex(), block.getStartColumn(), block.getAsColumn().title(), tranlator.translate(e.getMessage()), (Serializable) e.getErrorValue());
+                    final int firstRowIndex = configuration.getDataStartRowIndex() + Math.max(fromRow, 0);
+                    result.addError(reportBlock.getBlockClass(), sheet.getSheetName(), e.getRowIndex() + firstRowIndex, block.getStartColumn(), block.getAsColumn().title(), tranlator.translate(e.getMessage()), (Serializable) e.getErrorValue());
                 }
             }
         }
     }
 
-    private <T> boolean bindCellValueToClassAttr(Class<T> clazz, Method method, T instance, ReportBlock block, Cell cell, ReportLoaderErrorTreatment errorTreatment) throws ReportEngineReflectionException {
+    private boolean bindCellValueToClassAttr(Class<?> clazz, ColumnCellReader reader, Object instance, ReportBlock block, ReportLoaderSheet sheet, ReportLoaderCell cell, ReportLoaderErrorTreatment errorTreatment, RowsBinding<?> binding) throws ReportEngineReflectionException {
         Object value = null;
         try {
-            value = getCellValue(method, cell);
-            value = ConverterUtils.convertValue(value, block.getSetterConverter());
-            instanceSetValue(method, instance, value, block.getCellValidators());
-            block.addValue(value);
+            if(reader.set(instance, cell)) {
+                return false;
+            }
+            value = reader.read(cell);
+            value = block.getResolvedSetterConverter().convert(value);
+            instanceSetValue(reader.getSetter(), instance, value, block.getCellValidators());
+            if(!block.getColumnValidators().isEmpty()) {
+                binding.addValue(block, value);
+            }
         } catch (RuntimeException e) {
             if (ReportLoaderErrorTreatment.THROW_ERROR.equals(errorTreatment)) {
                 throw e;
             } else {
-                loaderResult.addError(clazz, instance, cell, block.getAsColumn().title(), tranlator.translate(e.getMessage()), (Serializable) value);
+                final CellReference cellReference = new CellReference(sheet.getSheetName(), cell.getRowIndex(), cell.getColumnIndex(), false, false);
+                binding.result.addError(clazz, instance, cellReference, block.getAsColumn().title(), tranlator.translate(e.getMessage()), (Serializable) value);
                 return true;
             }
         }
@@ -226,30 +369,21 @@ public class ReportLoader {
         }
     }
 
-    private Object getCellValue(final Method method, final Cell cell) {
-        Class<?> parameterType = method.getParameterTypes()[0];
-        if (cell != null) {
-            if(parameterType.equals(Boolean.class) || parameterType.equals(boolean.class)) {
-                return cell.getBooleanCellValue();
-            } else if (CellType.FORMULA.equals(cell.getCellTypeEnum())) {
-                return cell.getCellFormula();
-            } else if(parameterType.equals(String.class) && CellType.STRING.equals(cell.getCellTypeEnum())) {
-                return cell.getRichStringCellValue().getString();
-            } else if(parameterType.equals(String.class) && CellType.NUMERIC.equals(cell.getCellTypeEnum())) {
-                return Double.toString(cell.getNumericCellValue());
-            } else if(parameterType.equals(Character.class) || parameterType.equals(char.class)) {
-                String string = cell.getRichStringCellValue().getString();
-                return StringUtils.isEmpty(string) ? null : string.charAt(0);
-            } else if(parameterType.equals(Date.class)) {
-                return cell.getDateCellValue();
-            } else if(Number.class.isAssignableFrom(parameterType) || parameterType.isPrimitive()) {
-                return NumberFactory.valueOf(cell.getNumericCellValue(), parameterType);
-            }
+    private ReportLoaderSheet getSheet(String sheetName) {
+        if(streamingWorkbook != null) {
+            return streamingWorkbook.getSheet(sheetName);
+        }
+        final Sheet sheet = currentWorkbook.getSheet(sheetName);
+        if(sheet == null) {
+            throw new ReportEngineRuntimeException("The workbook does not have a sheet with name " + sheetName, this.getClass());
         }
-        return null;
+        return new WorkbookLoaderSheet(sheet);
     }
 
     public ReportDataReader getReader() {
+        if(reader == null) {
+            throw new ReportEngineRuntimeException("The data reader is not available for streaming loaders", this.getClass());
+        }
         return reader;
     }
 
@@ -257,9 +391,232 @@ public class ReportLoader {
         return loaderResult;
     }
 
+    /**
+     * Chunks are bound concurrently, so the converters and the validators of the report class must be thread safe.
+     * Converters which keep state between conversions have to be annotated with {@link org.greports.annotations.StatefulConverter}.
+     *
+     * @param parallelBinding {@code true} to bind the rows by chunks in parallel in the common fork join pool.
+     *                        Instances and errors are merged in the order of the rows, as if they were bound sequentially
+     * @return the loader
+     */
+    public ReportLoader setParallelBinding(boolean parallelBinding) {
+        return setParallelBinding(parallelBinding, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Chunks are bound concurrently, so the converters and the validators of the report class must be thread safe.
+     * Converters which keep state between conversions have to be annotated with {@link org.greports.annotations.StatefulConverter}.
+     *
+     * @param parallelBinding {@code true} to bind the rows by chunks in parallel in the given executor.
+     *                        Instances and errors are merged in the order of the rows, as if they were bound sequentially
+     * @param executor executor binding the chunks
+     * @return the loader
+     */
+    public ReportLoader setParallelBinding(boolean parallelBinding, Executor executor) {
+        Utils.validateNotNull(executor);
+        this.parallelBinding = parallelBinding;
+        this.parallelBindingExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Instances, errors and skipped rows of the rows bound in a pass, in a batch or in a chunk of a parallel binding.
+     * The chunks keep the values of the validated columns apart, so they are added to the blocks in the order of the rows.
+     */
+    private static final class RowsBinding<T> {
+        private final List<T> instances = new ArrayList<>();
+        private final ReportLoaderResult result;
+        private final BitSet skippedRows;
+        private final Map<ReportBlock, List<Object>> values;
+
+        private RowsBinding(ReportLoaderResult result, BitSet skippedRows, boolean keepValues) {
+            this.result = result;
+            this.skippedRows = skippedRows;
+            this.values = keepValues ? new IdentityHashMap<>() : null;
+        }
+
+        private void addValue(ReportBlock block, Object value) {
+            if(values != null) {
+                values.computeIfAbsent(block, b -> new ArrayList<>()).add(value);
+            } else {
+                block.addValue(value);
+            }
+        }
+
+        /**
+         * Adds the rows bound by a chunk after the rows of this binding.
+         */
+        private void merge(RowsBinding<T> chunk) {
+            instances.addAll(chunk.instances);
+            result.addErrors(chunk.result);
+            skippedRows.or(chunk.skippedRows);
+            chunk.values.forEach((block, blockValues) -> block.getValues().addAll(blockValues));
+        }
+    }
+
+    /**
+     * Splits the rows handed over by the sheet into chunks which are bound in parallel. The chunks are merged in order,
+     * so an error thrown with {@link ReportLoaderErrorTreatment#THROW_ERROR} is the one of the first row with error.
+     * Only a few chunks are bound ahead of the merged ones, which keeps streamed rows bounded.
+     */
+    private final class ParallelBinder<T> implements ReportLoaderSheet.RowHandler {
+        private final ReportLoaderPlan plan;
+        private final Class<T> clazz;
+        private final ReportLoaderErrorTreatment errorTreatment;
+        private final ReportLoaderSheet sheet;
+        private final RowsBinding<T> binding;
+        private final Executor executor = parallelBindingExecutor;
+        private final int maxPendingChunks = Math.max(2, (executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors()) * 2);
+        private final Deque<CompletableFuture<RowsBinding<T>>> pendingChunks = new ArrayDeque<>();
+        private List<Integer> chunkRows = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+        private List<IntFunction<ReportLoaderCell>> chunkCells = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+
+        private ParallelBinder(ReportLoaderPlan plan, Class<T> clazz, ReportLoaderErrorTreatment errorTreatment, ReportLoaderSheet sheet, RowsBinding<T> binding) {
+            this.plan = plan;
+            this.clazz = clazz;
+            this.errorTreatment = errorTreatment;
+            this.sheet = sheet;
+            this.binding = binding;
+        }
+
+        @Override
+        public void handle(int rowIndex, IntFunction<ReportLoaderCell> cells) throws ReportEngineReflectionException {
+            if(binding.skippedRows.get(rowIndex)) {
+                return;
+            }
+            chunkRows.add(rowIndex);
+            chunkCells.add(cells);
+            if(chunkRows.size() == PARALLEL_CHUNK_SIZE) {
+                submitChunk();
+            }
+        }
+
+        private void submitChunk() throws ReportEngineReflectionException {
+            final List<Integer> rows = chunkRows;
+            final List<IntFunction<ReportLoaderCell>> cells = chunkCells;
+            pendingChunks.addLast(CompletableFuture.supplyAsync(() -> bindChunk(rows, cells), executor));
+            chunkRows = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+            chunkCells = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+            while(pendingChunks.size() > maxPendingChunks) {
+                mergeChunk(pendingChunks.pollFirst());
+            }
+        }
+
+        private RowsBinding<T> bindChunk(List<Integer> rows, List<IntFunction<ReportLoaderCell>> cells) {
+            final RowsBinding<T> chunk = new RowsBinding<>(new ReportLoaderResult(), new BitSet(), true);
+            try {
+                for (int i = 0; i < rows.size(); i++) {
+                    bindRow(plan, clazz, errorTreatment, sheet, rows.get(i), cells.get(i), chunk);
+                }
+            } catch (ReportEngineReflectionException e) {
+                throw new CompletionException(e);
+            }
+            return chunk;
+        }
+
+        private void mergeChunk(CompletableFuture<RowsBinding<T>> pendingChunk) throws ReportEngineReflectionException {
+            final RowsBinding<T> chunk;
+            try {
+                chunk = pendingChunk.join();
+            } catch (CompletionException e) {
+                pendingChunks.forEach(future -> future.cancel(false));
+                pendingChunks.clear();
+                if(e.getCause() instanceof ReportEngineReflectionException) {
+                    throw (ReportEngineReflectionException) e.getCause();
+                } else if(e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            binding.merge(chunk);
+        }
+
+        /**
+         * Binds the last chunk and waits for all the chunks to be merged.
+         */
+        private void finish() throws ReportEngineReflectionException {
+            if(!chunkRows.isEmpty()) {
+                submitChunk();
+            }
+            while(!pendingChunks.isEmpty()) {
+                mergeChunk(pendingChunks.pollFirst());
+            }
+        }
+    }
+
+    /**
+     * Binds the rows handed over by the sheet into batches. The column validations of a batch are checked
+     * when the batch is full, before the batch is handed over to the consumer.
+     */
+    private final class BatchBinder<T> implements ReportLoaderSheet.RowHandler {
+        private final ReportBlock reportBlock;
+        private final ReportLoaderPlan plan;
+        private final Class<T> clazz;
+        private final ReportConfiguration configuration;
+        private final ReportLoaderErrorTreatment errorTreatment;
+        private final ReportLoaderSheet sheet;
+        private final int batchSize;
+        private final Consumer<ReportLoaderResult> batchConsumer;
+        private RowsBinding<T> binding;
+        private ParallelBinder<T> parallelBinder;
+        private int firstRowIndex;
+        private int rowsCount;
+
+        private BatchBinder(ReportBlock reportBlock, Class<T> clazz, ReportConfiguration configuration, ReportLoaderErrorTreatment errorTreatment, ReportLoaderSheet sheet, int batchSize, Consumer<ReportLoaderResult> batchConsumer) throws ReportEngineReflectionException {
+            this.reportBlock = reportBlock;
+            this.plan = ReportLoaderPlan.compile(reportBlock);
+            this.clazz = clazz;
+            this.configuration = configuration;
+            this.errorTreatment = errorTreatment;
+            this.sheet = sheet;
+            this.batchSize = batchSize;
+            this.batchConsumer = batchConsumer;
+            newBatch();
+        }
+
+        @Override
+        public void handle(int rowIndex, IntFunction<ReportLoaderCell> cells) throws ReportEngineReflectionException {
+            if(rowsCount == 0) {
+                firstRowIndex = rowIndex;
+            }
+            if(parallelBinder != null) {
+                parallelBinder.handle(rowIndex, cells);
+            } else {
+                bindRow(plan, clazz, errorTreatment, sheet, rowIndex, cells, binding);
+            }
+            if(++rowsCount == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws ReportEngineReflectionException {
+            if(rowsCount == 0) {
+                return;
+            }
+            if(parallelBinder != null) {
+                parallelBinder.finish();
+            }
+            checkColumnValidations(reportBlock, configuration, firstRowIndex - configuration.getDataStartRowIndex(), sheet, binding.result);
+            binding.result.addResult(clazz, binding.instances);
+            batchConsumer.accept(binding.result);
+
+            reportBlock.clearValues();
+            newBatch();
+        }
+
+        private void newBatch() {
+            binding = new RowsBinding<>(new ReportLoaderResult(), new BitSet(), false);
+            parallelBinder = parallelBinding ? new ParallelBinder<>(plan, clazz, errorTreatment, sheet, binding) : null;
+            rowsCount = 0;
+        }
+    }
+
     public void close() throws IOException {
         if(!Objects.isNull(this.currentWorkbook)) {
             this.currentWorkbook.close();
         }
+        if(!Objects.isNull(this.streamingWorkbook)) {
+            this.streamingWorkbook.close();
+        }
     }
 }
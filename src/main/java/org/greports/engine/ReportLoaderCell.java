@@ -0,0 +1,28 @@
+package org.greports.engine;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+import java.util.Date;
+
+/**
+ * Cell read by the loader. The getters behave as the ones of {@link org.apache.poi.ss.usermodel.Cell},
+ * and throw an {@link IllegalStateException} if the value of the cell is not of the requested type.
+ */
+interface ReportLoaderCell {
+
+    int getRowIndex();
+
+    int getColumnIndex();
+
+    CellType getCellTypeEnum();
+
+    boolean getBooleanCellValue();
+
+    double getNumericCellValue();
+
+    String getStringCellValue();
+
+    Date getDateCellValue();
+
+    String getCellFormula();
+}
@@ -29,8 +29,11 @@ public class ReportLoaderError implements Serializable {
     }
 
     public ReportLoaderError(Cell cell, String columnTitle, String errorMsg, final Serializable errorValue) {
-        this(cell.getSheet().getSheetName(), cell.getRowIndex(), cell.getColumnIndex(), columnTitle, errorMsg, errorValue);
-        final CellReference cellReference = new CellReference(cell);
+        this(new CellReference(cell), columnTitle, errorMsg, errorValue);
+    }
+
+    public ReportLoaderError(CellReference cellReference, String columnTitle, String errorMsg, final Serializable errorValue) {
+        this(cellReference.getSheetName(), cellReference.getRow(), (int) cellReference.getCol(), columnTitle, errorMsg, errorValue);
         this.cellReference = cellReference.formatAsString();
         this.rowReference = cellReference.getCellRefParts()[1];
         this.columnReference = cellReference.getCellRefParts()[2];
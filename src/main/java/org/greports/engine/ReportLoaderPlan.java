@@ -0,0 +1,105 @@
+package org.greports.engine;
+
+import org.greports.exceptions.ReportEngineReflectionException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The blocks of a report flattened in the order they are bound: every subreport after the block which contains it.
+ * Every row is read once and all its nested instances are bound in the same pass.
+ */
+final class ReportLoaderPlan {
+
+    private final Node[] nodes;
+
+    private ReportLoaderPlan(final List<Node> nodes) {
+        this.nodes = nodes.toArray(new Node[0]);
+    }
+
+    /**
+     * The setter converters and the cell readers of the columns are resolved while compiling, so the plan can be shared
+     * by the threads of a parallel binding.
+     * @param reportBlock block of the report class, with its blocks loaded
+     * @return the binding plan of the block and its subreports
+     * @throws ReportEngineReflectionException if a converter class cannot be instantiated or a setter cannot be accessed
+     */
+    static ReportLoaderPlan compile(final ReportBlock reportBlock) throws ReportEngineReflectionException {
+        final List<Node> nodes = new ArrayList<>();
+        addNodes(reportBlock, -1, nodes);
+        return new ReportLoaderPlan(nodes);
+    }
+
+    private static void addNodes(final ReportBlock reportBlock, final int parentIndex, final List<Node> nodes) throws ReportEngineReflectionException {
+        final int index = nodes.size();
+        final List<ReportBlock> columns = new ArrayList<>();
+        final List<ColumnCellReader> readers = new ArrayList<>();
+        for (final ReportBlock block : reportBlock.getBlocks()) {
+            if (block.isColumn()) {
+                columns.add(block);
+                readers.add(ColumnCellReader.forColumn(block));
+            }
+        }
+        nodes.add(new Node(reportBlock, parentIndex, columns.toArray(new ReportBlock[0]), readers.toArray(new ColumnCellReader[0])));
+        for (final ReportBlock block : reportBlock.getBlocks()) {
+            if (block.isSubreport()) {
+                addNodes(block, index, nodes);
+            }
+        }
+    }
+
+    int getNodesCount() {
+        return nodes.length;
+    }
+
+    /**
+     * @param index node index. The node of the report class is the first one, and every node comes after its parent
+     * @return the node
+     */
+    Node getNode(final int index) {
+        return nodes[index];
+    }
+
+    static final class Node {
+        private final Class<?> blockClass;
+        private final Method parentMethod;
+        private final int parentIndex;
+        private final ReportBlock[] columns;
+        private final ColumnCellReader[] readers;
+
+        private Node(final ReportBlock reportBlock, final int parentIndex, final ReportBlock[] columns, final ColumnCellReader[] readers) {
+            this.blockClass = reportBlock.getBlockClass();
+            this.parentMethod = reportBlock.getParentMethod();
+            this.parentIndex = parentIndex;
+            this.columns = columns;
+            this.readers = readers;
+        }
+
+        Class<?> getBlockClass() {
+            return blockClass;
+        }
+
+        /**
+         * @return the setter of the instance of the node in the instance of its parent
+         */
+        Method getParentMethod() {
+            return parentMethod;
+        }
+
+        int getParentIndex() {
+            return parentIndex;
+        }
+
+        ReportBlock[] getColumns() {
+            return columns;
+        }
+
+        /**
+         * @return the cell readers of the columns, in the same order as the columns
+         */
+        ColumnCellReader[] getReaders() {
+            return readers;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.greports.engine;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.util.CellReference;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -29,11 +30,30 @@ public class ReportLoaderResult implements Serializable {
         addError(clazz, rowWithError, new ReportLoaderError(cell, columnTitle, errorMessage, errorValue));
     }
 
+    protected void addError(Class<?> clazz, Object rowWithError, CellReference cellReference, String columnTitle, String errorMessage, final Serializable errorValue) {
+        addError(clazz, rowWithError, new ReportLoaderError(cellReference, columnTitle, errorMessage, errorValue));
+    }
+
     protected <T> void addError(Class<T> clazz, String sheetName, Integer rowIndex, Integer columnIndex, String columnTitle, String errorMessage, final Serializable errorValue) {
         addError(clazz, null, new ReportLoaderError(sheetName, rowIndex, columnIndex, columnTitle, errorMessage, errorValue));
     }
 
-    private <T> void addError(Class<T> clazz, T rowWithError, ReportLoaderError error) {
+    /**
+     * Adds the errors of another result after the errors of this one.
+     * @param other result with errors
+     */
+    protected void addErrors(ReportLoaderResult other) {
+        for (final Map.Entry<Class<?>, List<ReportLoaderError>> entry : other.errors.entrySet()) {
+            errorsCheckClass(entry.getKey());
+            errors.get(entry.getKey()).addAll(entry.getValue());
+        }
+        for (final Map.Entry<Class<?>, Set<Object>> entry : other.rowsWithErrors.entrySet()) {
+            rowsWithErrorsCheckClass(entry.getKey());
+            rowsWithErrors.get(entry.getKey()).addAll(entry.getValue());
+        }
+    }
+
+    private void addError(Class<?> clazz, Object rowWithError, ReportLoaderError error) {
         errorsCheckClass(clazz);
         errors.get(clazz).add(error);
         rowsWithErrorsCheckClass(clazz);
@@ -0,0 +1,33 @@
+package org.greports.engine;
+
+import org.greports.exceptions.ReportEngineReflectionException;
+
+import java.util.function.IntFunction;
+
+/**
+ * Rows of a sheet read by the loader, either from a workbook loaded in memory or streamed from its file.
+ */
+interface ReportLoaderSheet {
+
+    String getSheetName();
+
+    /**
+     * Reads the rows of the sheet in order. Missing rows are read as blank rows.
+     * @param firstRow index of the first row to read
+     * @param lastRow index of the last row to read. Rows after the last row of the sheet are not read
+     * @param trailingRows number of rows at the end of the sheet which are not read
+     * @param rowHandler handler of every row read
+     * @throws ReportEngineReflectionException exception thrown by the handler
+     */
+    void readRows(int firstRow, int lastRow, int trailingRows, RowHandler rowHandler) throws ReportEngineReflectionException;
+
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * @param rowIndex row index
+         * @param cells returns the cell of a column of the row, which is blank if the row has no cell in the column
+         * @throws ReportEngineReflectionException exception binding the row
+         */
+        void handle(int rowIndex, IntFunction<ReportLoaderCell> cells) throws ReportEngineReflectionException;
+    }
+}
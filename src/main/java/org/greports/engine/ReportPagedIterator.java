@@ -0,0 +1,42 @@
+package org.greports.engine;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * Iterates over the entries returned by a page supplier. Pages are requested by index,
+ * starting at 0, until the supplier returns a null or empty page.
+ * @param <T> entries class
+ */
+class ReportPagedIterator<T> implements Iterator<T> {
+
+    private final IntFunction<List<T>> pageSupplier;
+    private List<T> page;
+    private int pageIndex;
+    private int entryIndex;
+    private boolean finished;
+
+    ReportPagedIterator(final IntFunction<List<T>> pageSupplier) {
+        this.pageSupplier = pageSupplier;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(!finished && (page == null || entryIndex >= page.size())) {
+            page = pageSupplier.apply(pageIndex++);
+            entryIndex = 0;
+            finished = page == null || page.isEmpty();
+        }
+        return !finished;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(entryIndex++);
+    }
+}
@@ -36,7 +36,7 @@ public class ReportSingleDataParser<T> extends ReportParser {
         loggerService.info(String.format("Parsing report for class \"%s\" with name \"%s\"...", clazz.getSimpleName(), reportName));
         Stopwatch timer = Stopwatch.createStarted();
         ReportConfiguration configuration = ReportConfigurationLoader.load(clazz, reportName);
-        ReportSingleDataContainer<T> container = new ReportSingleDataContainer<>(new ReportData(reportName, configuration), clazz);
+        ReportSingleDataContainer<T> container = new ReportSingleDataContainer<>(new ReportData(reportName, configuration).setReportClass(clazz), clazz);
 
         currentContainer = container;
 
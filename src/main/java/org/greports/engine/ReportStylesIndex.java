@@ -0,0 +1,189 @@
+package org.greports.engine;
+
+import org.greports.styles.ReportStyle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Index of resolved report styles by their ranges. For every row it returns the segments of columns
+ * covered by the same styles, so every cell gets one cell style combining all the styles applied to it
+ * instead of one cell style per overlapping style. Row indexes and columns are relative to the report,
+ * without the offsets of the configuration.
+ * Rows are resolved with a sweep over the styles sorted by their first row, so they should be requested
+ * in ascending order. Requesting a previous row restarts the sweep.
+ */
+final class ReportStylesIndex {
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Entry> activeEntries = new ArrayList<>();
+    private int nextEntry;
+    private int lastRowIndex = Integer.MIN_VALUE;
+    private RowStyles rowStyles;
+
+    /**
+     * @param styles styles with resolved ranges, in the order they are applied
+     */
+    ReportStylesIndex(final List<ReportStyle> styles) {
+        for (int i = 0; i < styles.size(); i++) {
+            entries.add(new Entry(i, styles.get(i)));
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.firstRow));
+    }
+
+    RowStyles getRowStyles(final int rowIndex) {
+        if(rowIndex < lastRowIndex) {
+            activeEntries.clear();
+            nextEntry = 0;
+            rowStyles = null;
+        }
+        lastRowIndex = rowIndex;
+
+        boolean changed = activeEntries.removeIf(entry -> entry.lastRow < rowIndex);
+        boolean added = false;
+        for (; nextEntry < entries.size() && entries.get(nextEntry).firstRow <= rowIndex; nextEntry++) {
+            final Entry entry = entries.get(nextEntry);
+            if(entry.lastRow >= rowIndex) {
+                activeEntries.add(entry);
+                added = true;
+            }
+        }
+        if(added) {
+            activeEntries.sort(Comparator.comparingInt(entry -> entry.order));
+        }
+
+        // Consecutive rows covered by the same styles share the resolved segments
+        if(changed || added || rowStyles == null) {
+            rowStyles = new RowStyles(activeEntries);
+        }
+        return rowStyles;
+    }
+
+    static final class RowStyles {
+        private final Float rowHeight;
+        private final List<ColumnsStyles> columnsStyles = new ArrayList<>();
+
+        private RowStyles(final List<Entry> activeEntries) {
+            Float height = null;
+            final TreeSet<Integer> bounds = new TreeSet<>();
+            for (final Entry entry : activeEntries) {
+                if(entry.style.getRowHeight() != null) {
+                    height = entry.style.getRowHeight();
+                }
+                if(entry.firstColumn <= entry.lastColumn) {
+                    bounds.add(entry.firstColumn);
+                    bounds.add(entry.lastColumn + 1);
+                }
+            }
+            this.rowHeight = height;
+
+            if(!bounds.isEmpty()) {
+                int firstColumn = bounds.first();
+                for (final Integer bound : bounds.tailSet(firstColumn, false)) {
+                    final List<ReportStyle> styles = resolveColumnStyles(activeEntries, firstColumn);
+                    if(!styles.isEmpty()) {
+                        columnsStyles.add(new ColumnsStyles(firstColumn, bound - 1, styles));
+                    }
+                    firstColumn = bound;
+                }
+            }
+        }
+
+        /**
+         * A style which does not clone the previous style replaces the styles applied before it,
+         * so the styles of a column start from the last one of them.
+         */
+        private static List<ReportStyle> resolveColumnStyles(final List<Entry> activeEntries, final int column) {
+            final List<ReportStyle> styles = new ArrayList<>();
+            for (final Entry entry : activeEntries) {
+                if(entry.firstColumn <= column && column <= entry.lastColumn) {
+                    if(!entry.style.isClonePreviousStyle()) {
+                        styles.clear();
+                    }
+                    styles.add(entry.style);
+                }
+            }
+            return Collections.unmodifiableList(styles);
+        }
+
+        /**
+         * @return the row height of the last style with row height or null if none of the styles has it.
+         */
+        Float getRowHeight() {
+            return rowHeight;
+        }
+
+        List<ColumnsStyles> getColumnsStyles() {
+            return columnsStyles;
+        }
+
+        /**
+         * @param column column relative to the report
+         * @return the styles applied to the column, in order, or an empty list if the column has no styles.
+         */
+        List<ReportStyle> getColumnStyles(final int column) {
+            int low = 0;
+            int high = columnsStyles.size() - 1;
+            while(low <= high) {
+                final int middle = (low + high) >>> 1;
+                final ColumnsStyles segment = columnsStyles.get(middle);
+                if(column < segment.firstColumn) {
+                    high = middle - 1;
+                } else if(column > segment.lastColumn) {
+                    low = middle + 1;
+                } else {
+                    return segment.styles;
+                }
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    static final class ColumnsStyles {
+        private final int firstColumn;
+        private final int lastColumn;
+        private final List<ReportStyle> styles;
+
+        private ColumnsStyles(final int firstColumn, final int lastColumn, final List<ReportStyle> styles) {
+            this.firstColumn = firstColumn;
+            this.lastColumn = lastColumn;
+            this.styles = styles;
+        }
+
+        int getFirstColumn() {
+            return firstColumn;
+        }
+
+        int getLastColumn() {
+            return lastColumn;
+        }
+
+        /**
+         * @return the styles applied to the columns, in order.
+         */
+        List<ReportStyle> getStyles() {
+            return styles;
+        }
+    }
+
+    private static final class Entry {
+        private final int order;
+        private final ReportStyle style;
+        private final int firstRow;
+        private final int lastRow;
+        private final int firstColumn;
+        private final int lastColumn;
+
+        private Entry(final int order, final ReportStyle style) {
+            this.order = order;
+            this.style = style;
+            this.firstRow = style.getRange().getVerticalRange().getStart();
+            this.lastRow = style.getRange().getVerticalRange().getEnd();
+            this.firstColumn = style.getRange().getHorizontalRange().getStart();
+            this.lastColumn = style.getRange().getHorizontalRange().getEnd();
+        }
+    }
+}
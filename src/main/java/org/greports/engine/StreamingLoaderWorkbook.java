@@ -0,0 +1,415 @@
+package org.greports.engine;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.xmlbeans.XmlException;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.exceptions.ReportEngineRuntimeException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Deque;
+import java.util.function.IntFunction;
+
+/**
+ * Workbook read with the XSSF event model. The sheets are parsed with SAX every time their rows are read,
+ * so only the shared strings and the rows waiting to be bound are kept in memory.
+ */
+final class StreamingLoaderWorkbook implements Closeable {
+
+    private final OPCPackage opcPackage;
+    private final XSSFReader xssfReader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final boolean date1904;
+
+    StreamingLoaderWorkbook(final OPCPackage opcPackage) throws IOException {
+        this.opcPackage = opcPackage;
+        try {
+            this.xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            try(InputStream workbookData = xssfReader.getWorkbookData()) {
+                final CTWorkbookPr workbookPr = WorkbookDocument.Factory.parse(workbookData).getWorkbook().getWorkbookPr();
+                this.date1904 = workbookPr != null && workbookPr.getDate1904();
+            }
+        } catch (OpenXML4JException | SAXException | XmlException e) {
+            throw new ReportEngineRuntimeException("Error opening the workbook", e, this.getClass());
+        }
+    }
+
+    /**
+     * @param sheetName sheet name
+     * @return the sheet with the name
+     */
+    ReportLoaderSheet getSheet(final String sheetName) {
+        try(InputStream ignored = openSheet(sheetName)) {
+            return new StreamingSheet(sheetName);
+        } catch (IOException e) {
+            throw new ReportEngineRuntimeException("Error reading the sheet " + sheetName, e, this.getClass());
+        }
+    }
+
+    private InputStream openSheet(final String sheetName) throws IOException {
+        try {
+            final XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            while(iterator.hasNext()) {
+                final InputStream sheetData = iterator.next();
+                if(iterator.getSheetName().equals(sheetName)) {
+                    return sheetData;
+                }
+                sheetData.close();
+            }
+        } catch (OpenXML4JException e) {
+            throw new ReportEngineRuntimeException("Error reading the sheet " + sheetName, e, this.getClass());
+        }
+        throw new ReportEngineRuntimeException("The workbook does not have a sheet with name " + sheetName, this.getClass());
+    }
+
+    @Override
+    public void close() {
+        // The package is opened read only, so it is closed without saving
+        opcPackage.revert();
+    }
+
+    private final class StreamingSheet implements ReportLoaderSheet {
+        private final String sheetName;
+
+        private StreamingSheet(final String sheetName) {
+            this.sheetName = sheetName;
+        }
+
+        @Override
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        @Override
+        public void readRows(final int firstRow, final int lastRow, final int trailingRows, final RowHandler rowHandler) throws ReportEngineReflectionException {
+            try(InputStream sheetData = openSheet(sheetName)) {
+                final XMLReader xmlReader = SAXHelper.newXMLReader();
+                xmlReader.setContentHandler(new SheetHandler(firstRow, lastRow, trailingRows, rowHandler));
+                xmlReader.parse(new InputSource(sheetData));
+            } catch (LastRowReadException e) {
+                // The rest of the sheet is not needed
+            } catch (RowHandlerException e) {
+                if(e.getException() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getException();
+                }
+                throw (ReportEngineReflectionException) e.getException();
+            } catch (IOException | SAXException | ParserConfigurationException e) {
+                throw new ReportEngineRuntimeException("Error reading the sheet " + sheetName, e, this.getClass());
+            }
+        }
+    }
+
+    /**
+     * Builds the rows of the sheet from the SAX events. A row is handed over once the rows after it show
+     * that it is not one of the trailing rows of the sheet, so at most the trailing rows are kept. The rows
+     * still pending at the end of the sheet are the trailing rows.
+     */
+    private final class SheetHandler extends DefaultHandler {
+        private final int firstRow;
+        private final int lastRow;
+        private final int trailingRows;
+        private final ReportLoaderSheet.RowHandler rowHandler;
+        private final Deque<StreamedRow> pendingRows = new ArrayDeque<>();
+        private int nextRow;
+
+        private StreamedRow row;
+        private int rowIndex = -1;
+        private int columnIndex;
+        private String cellType;
+        private final StringBuilder value = new StringBuilder();
+        private final StringBuilder formula = new StringBuilder();
+        private boolean hasValue;
+        private boolean hasFormula;
+        private boolean sharedFormula;
+        private boolean inValue;
+        private boolean inFormula;
+        private boolean inInlineString;
+
+        private SheetHandler(final int firstRow, final int lastRow, final int trailingRows, final ReportLoaderSheet.RowHandler rowHandler) {
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.trailingRows = trailingRows;
+            this.rowHandler = rowHandler;
+            this.nextRow = firstRow;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch(localName) {
+                case "row":
+                    final String rowNumber = attributes.getValue("r");
+                    rowIndex = rowNumber != null ? Integer.parseInt(rowNumber) - 1 : rowIndex + 1;
+                    row = rowIndex >= firstRow && rowIndex <= lastRow ? new StreamedRow(rowIndex) : null;
+                    columnIndex = -1;
+                    break;
+                case "c":
+                    final String reference = attributes.getValue("r");
+                    columnIndex = reference != null ? new CellReference(reference).getCol() : columnIndex + 1;
+                    cellType = attributes.getValue("t");
+                    value.setLength(0);
+                    formula.setLength(0);
+                    hasValue = false;
+                    hasFormula = false;
+                    break;
+                case "v":
+                    inValue = row != null;
+                    break;
+                case "f":
+                    inFormula = row != null;
+                    hasFormula = true;
+                    sharedFormula = "shared".equals(attributes.getValue("t"));
+                    break;
+                case "t":
+                    inInlineString = row != null && "inlineStr".equals(cellType);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if(inValue || inInlineString) {
+                value.append(ch, start, length);
+            } else if(inFormula) {
+                formula.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            switch(localName) {
+                case "v":
+                    hasValue = inValue;
+                    inValue = false;
+                    break;
+                case "t":
+                    hasValue |= inInlineString;
+                    inInlineString = false;
+                    break;
+                case "f":
+                    inFormula = false;
+                    break;
+                case "c":
+                    if(row != null) {
+                        row.addCell(createCell());
+                    }
+                    break;
+                case "row":
+                    if(row != null) {
+                        pendingRows.addLast(row);
+                        row = null;
+                    }
+                    handRows(rowIndex - trailingRows);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private StreamedCell createCell() {
+            if(!hasValue && !hasFormula) {
+                return new StreamedCell(rowIndex, columnIndex, CellType.BLANK, null);
+            }
+            final CellType valueType;
+            String text = hasValue ? value.toString() : null;
+            if("s".equals(cellType)) {
+                valueType = CellType.STRING;
+                text = text != null ? sharedStrings.getEntryAt(Integer.parseInt(text.trim())) : null;
+            } else if("inlineStr".equals(cellType) || "str".equals(cellType) || "d".equals(cellType)) {
+                valueType = CellType.STRING;
+            } else if("b".equals(cellType)) {
+                valueType = CellType.BOOLEAN;
+            } else if("e".equals(cellType)) {
+                valueType = CellType.ERROR;
+            } else {
+                valueType = CellType.NUMERIC;
+            }
+            final StreamedCell cell = new StreamedCell(rowIndex, columnIndex, hasFormula ? CellType.FORMULA : valueType, text);
+            if(hasFormula) {
+                cell.setFormula(formula.toString(), valueType, sharedFormula && formula.length() == 0);
+            }
+            return cell;
+        }
+
+        /**
+         * Hands over the rows up to the index, including the missing ones as blank rows.
+         */
+        private void handRows(final int toRow) throws SAXException {
+            final int handedLastRow = Math.min(toRow, lastRow);
+            for (; nextRow <= handedLastRow; nextRow++) {
+                final StreamedRow handedRow = !pendingRows.isEmpty() && pendingRows.peekFirst().rowIndex == nextRow ? pendingRows.pollFirst() : new StreamedRow(nextRow);
+                try {
+                    rowHandler.handle(nextRow, handedRow);
+                } catch (ReportEngineReflectionException | RuntimeException e) {
+                    throw new RowHandlerException(e);
+                }
+            }
+            if(nextRow > lastRow) {
+                throw new LastRowReadException();
+            }
+        }
+    }
+
+    private final class StreamedRow implements IntFunction<ReportLoaderCell> {
+        private final int rowIndex;
+        private StreamedCell[] cells = new StreamedCell[0];
+
+        private StreamedRow(final int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        private void addCell(final StreamedCell cell) {
+            if(cell.columnIndex >= cells.length) {
+                cells = Arrays.copyOf(cells, Math.max(cell.columnIndex + 1, cells.length * 2));
+            }
+            cells[cell.columnIndex] = cell;
+        }
+
+        @Override
+        public ReportLoaderCell apply(final int column) {
+            final StreamedCell cell = column < cells.length ? cells[column] : null;
+            return cell != null ? cell : new StreamedCell(rowIndex, column, CellType.BLANK, null);
+        }
+    }
+
+    private final class StreamedCell implements ReportLoaderCell {
+        private final int rowIndex;
+        private final int columnIndex;
+        private final CellType cellType;
+        private final String text;
+        private CellType cachedValueType;
+        private String formula;
+        private boolean sharedFormula;
+
+        private StreamedCell(final int rowIndex, final int columnIndex, final CellType cellType, final String text) {
+            this.rowIndex = rowIndex;
+            this.columnIndex = columnIndex;
+            this.cellType = cellType;
+            this.text = text;
+        }
+
+        private void setFormula(final String formula, final CellType cachedValueType, final boolean sharedFormula) {
+            this.formula = formula;
+            this.cachedValueType = cachedValueType;
+            this.sharedFormula = sharedFormula;
+        }
+
+        private CellType getValueType() {
+            return CellType.FORMULA.equals(cellType) ? cachedValueType : cellType;
+        }
+
+        @Override
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        @Override
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        @Override
+        public CellType getCellTypeEnum() {
+            return cellType;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            switch(getValueType()) {
+                case BLANK:
+                    return false;
+                case BOOLEAN:
+                    return "1".equals(text) || "true".equalsIgnoreCase(text);
+                default:
+                    throw typeMismatch(CellType.BOOLEAN);
+            }
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            switch(getValueType()) {
+                case BLANK:
+                    return 0d;
+                case NUMERIC:
+                    return text == null || text.isEmpty() ? 0d : Double.parseDouble(text);
+                default:
+                    throw typeMismatch(CellType.NUMERIC);
+            }
+        }
+
+        @Override
+        public String getStringCellValue() {
+            switch(getValueType()) {
+                case BLANK:
+                    return "";
+                case STRING:
+                    return text != null ? text : "";
+                default:
+                    throw typeMismatch(CellType.STRING);
+            }
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            if(CellType.BLANK.equals(cellType)) {
+                return null;
+            }
+            return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+        }
+
+        @Override
+        public String getCellFormula() {
+            if(!CellType.FORMULA.equals(cellType)) {
+                throw typeMismatch(CellType.FORMULA);
+            }
+            if(sharedFormula) {
+                // The formula is only written in the first cell of the shared range, relative to that cell
+                throw new IllegalStateException("Cannot get a shared formula from a streamed cell");
+            }
+            return formula;
+        }
+
+        private IllegalStateException typeMismatch(final CellType expectedType) {
+            return new IllegalStateException("Cannot get a " + expectedType + " value from a " + getValueType() + " " + (CellType.FORMULA.equals(cellType) ? "formula " : "") + "cell");
+        }
+    }
+
+    /**
+     * Stops the parsing of the sheet when the last requested row has been read.
+     */
+    private static final class LastRowReadException extends SAXException {
+        private static final long serialVersionUID = -2457309127305658713L;
+    }
+
+    /**
+     * Carries the exceptions of the row handler through the SAX parser.
+     */
+    private static final class RowHandlerException extends SAXException {
+        private static final long serialVersionUID = 6183495719261374528L;
+
+        private RowHandlerException(final Exception e) {
+            super(e);
+        }
+    }
+}
@@ -1,89 +1,129 @@
 package org.greports.engine;
 
 import org.apache.log4j.Level;
-import org.apache.poi.ss.formula.EvaluationWorkbook;
 import org.apache.poi.ss.formula.FormulaParser;
-import org.apache.poi.ss.formula.FormulaParsingWorkbook;
 import org.apache.poi.ss.formula.FormulaRenderer;
-import org.apache.poi.ss.formula.FormulaRenderingWorkbook;
 import org.apache.poi.ss.formula.FormulaType;
 import org.apache.poi.ss.formula.ptg.AreaPtgBase;
 import org.apache.poi.ss.formula.ptg.Ptg;
 import org.apache.poi.ss.formula.ptg.RefPtgBase;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.AreaReference;
 import org.apache.poi.ss.util.CellReference;
 import org.apache.poi.xssf.usermodel.XSSFEvaluationWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFTable;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.greports.content.cell.DataCell;
-import org.greports.content.header.ReportHeader;
+import org.greports.content.cell.HeaderCell;
 import org.greports.content.row.DataRow;
 import org.greports.utils.WorkbookUtils;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTTable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 
 public class TemplateDataInjector extends DataInjector {
 
+    private XSSFEvaluationWorkbook evaluationWorkbook;
+    private final Map<String, TemplatedFormula> templatedFormulas = new HashMap<>();
+    private Map<String, TemplatePlan> templatePlans;
+    private String templatePlanKey;
+    private TemplatePlan templatePlan;
+
     public TemplateDataInjector(XSSFWorkbook targetWorkbook, ReportData data, boolean loggerEnabled, Level level) {
         super(targetWorkbook, data, loggerEnabled, level);
     }
 
+    /**
+     * @param templatePlans plans of the template the workbook was opened from
+     * @param templatePlanKey key of the plan of the report, unique for the report and the injections done before it
+     * @return the injector
+     */
+    protected TemplateDataInjector setTemplatePlan(Map<String, TemplatePlan> templatePlans, String templatePlanKey) {
+        this.templatePlans = templatePlans;
+        this.templatePlanKey = templatePlanKey;
+        return this;
+    }
+
     @Override
     public void inject() {
+        reportData.loadPendingRows();
         Sheet sheet = currentWorkbook.getSheet(reportData.getSheetName());
         injectData(sheet);
     }
 
     protected void injectData(Sheet sheet) {
+        templatePlan = templatePlans != null
+                ? templatePlans.computeIfAbsent(templatePlanKey, key -> TemplatePlan.compile(sheet, reportData))
+                : TemplatePlan.compile(sheet, reportData);
         createHeader(sheet);
         createDataRows(sheet);
         super.createSpecialRows(sheet);
+        super.addMergedRegions(sheet);
         reindexTablesRows(sheet);
         super.adjustColumns(sheet);
+        super.collectSheetFormulaCells(sheet);
     }
 
     private void createHeader(Sheet sheet) {
         if(reportData.isCreateHeader()){
-            final ReportHeader header = reportData.getHeader();
-            final Row targetHeaderRow = sheet.getRow(header.getRowIndex());
-            for (int i = 0; i < header.getCells().size(); i++) {
-                WorkbookUtils.setCellValue(targetHeaderRow.getCell(i), header.getCells().get(i).getValue());
+            final List<HeaderCell> headerCells = reportData.getHeader().getCells();
+            final Row targetHeaderRow = sheet.getRow(templatePlan.getHeaderRowIndex());
+            for (int i = 0; i < headerCells.size(); i++) {
+                WorkbookUtils.setCellValue(targetHeaderRow.getCell(i), headerCells.get(i).getValue());
             }
         }
     }
 
-    private void cloneCell(Sheet sheet, Row sourceRow, Row targetRow, DataCell dataCell, int cellIndex) {
-        if(!ValueType.IGNORED_VALUE.equals(dataCell.getValueType())) {
-            final Cell sourceRowCell = sourceRow.getCell(cellIndex);
+    private void cloneCell(Sheet sheet, CellStyle[] columnStyles, Row targetRow, DataCell dataCell, int cellIndex) {
+        final ValueType valueType = templatePlan.getColumnValueType(cellIndex, dataCell.getValueType());
+        if(!ValueType.IGNORED_VALUE.equals(valueType)) {
             final Cell targetRowCell = targetRow.createCell(cellIndex);
-            targetRowCell.setCellStyle(sourceRowCell.getCellStyle());
+            if(cellIndex < columnStyles.length && columnStyles[cellIndex] != null) {
+                targetRowCell.setCellStyle(columnStyles[cellIndex]);
+            }
             Object value = dataCell.getValue();
-            if(ValueType.FORMULA.equals(dataCell.getValueType())) {
-                value = replaceFormulaIndexes(sourceRow, value.toString());
-            } else if(ValueType.TEMPLATED_FORMULA.equals(dataCell.getValueType())) {
-                value = copyFormula(sheet, sourceRowCell.getCellFormula(), targetRow.getRowNum() - sourceRow.getRowNum());
+            if(ValueType.FORMULA.equals(valueType)) {
+                value = replaceFormulaIndexes(targetRow, value.toString());
+            } else if(ValueType.TEMPLATED_FORMULA.equals(valueType)) {
+                value = copyFormula(sheet, templatePlan.getColumnFormula(cellIndex), targetRow.getRowNum() - templatePlan.getTemplateRowIndex());
             }
-            WorkbookUtils.setCellValue(targetRowCell, value, dataCell.getValueType());
+            WorkbookUtils.setCellValue(targetRowCell, value, valueType);
         }
     }
 
+    /**
+     * Source formulas are parsed once. The parsed tokens are shifted from the row they were
+     * rendered for the last time to the target row, and rendered again.
+     */
     private String copyFormula(Sheet sheet, String formula, int rowdiff){
-        EvaluationWorkbook evaluationWorkbook = XSSFEvaluationWorkbook.create(currentWorkbook);
-        Ptg[] ptgs = FormulaParser.parse(formula,
-            (FormulaParsingWorkbook) evaluationWorkbook,
-            FormulaType.CELL,
-            sheet.getWorkbook().getSheetIndex(sheet)
-        );
-
-        for(Ptg ptg : ptgs) {
-            changeFormulaRowIndex(ptg, rowdiff);
+        if(evaluationWorkbook == null) {
+            evaluationWorkbook = XSSFEvaluationWorkbook.create(currentWorkbook);
+        }
+        TemplatedFormula templatedFormula = templatedFormulas.get(formula);
+        if(templatedFormula == null) {
+            final Ptg[] ptgs = FormulaParser.parse(formula,
+                evaluationWorkbook,
+                FormulaType.CELL,
+                sheet.getWorkbook().getSheetIndex(sheet)
+            );
+            templatedFormula = new TemplatedFormula(ptgs);
+            templatedFormulas.put(formula, templatedFormula);
+        }
+
+        for(Ptg ptg : templatedFormula.ptgs) {
+            changeFormulaRowIndex(ptg, rowdiff - templatedFormula.rowdiff);
         }
+        templatedFormula.rowdiff = rowdiff;
 
-        formula = FormulaRenderer.toFormulaString((FormulaRenderingWorkbook)evaluationWorkbook, ptgs);
-        return formula;
+        return FormulaRenderer.toFormulaString(evaluationWorkbook, templatedFormula.ptgs);
     }
 
     private void changeFormulaRowIndex(Ptg ptg, int rowdiff) {
@@ -103,31 +143,60 @@ public class TemplateDataInjector extends DataInjector {
         }
     }
 
+    /**
+     * Writes the data rows at their final positions, starting at the template row. The content below
+     * the template row is moved once, before the rows are written, to make room for them.
+     */
     private void createDataRows(Sheet sheet) {
-        final Row sourceRow = sheet.getRow(reportData.getDataStartRow());
-        for (int i = 0; i < reportData.getDataRows().size(); i++) {
-            final int targetRowIndex = reportData.getDataStartRow() + i + 1;
-            Row targetRow = sheet.getRow(targetRowIndex);
-            if(targetRow == null) {
-                targetRow = sheet.createRow(targetRowIndex);
+        final int dataStartRow = templatePlan.getTemplateRowIndex();
+        final int rowsCount = reportData.getDataRows().size();
+        final Row templateRow = sheet.getRow(dataStartRow);
+        final CellStyle[] columnStyles = templatePlan.getColumnStyles(currentWorkbook);
+
+        if(sheet.getLastRowNum() > dataStartRow && rowsCount != 1) {
+            sheet.shiftRows(dataStartRow + 1, sheet.getLastRowNum(), rowsCount - 1);
+        } else if(rowsCount == 0) {
+            sheet.removeRow(templateRow);
+        }
+
+        if(rowsCount > 0) {
+            // The template row becomes the first data row
+            final List<Cell> templateCells = new ArrayList<>();
+            templateRow.forEach(templateCells::add);
+            for (final Cell cell : templateCells) {
+                templateRow.removeCell(cell);
             }
+        }
+
+        for (int i = 0; i < rowsCount; i++) {
+            final Row targetRow = WorkbookUtils.getOrCreateRow(sheet, dataStartRow + i);
             final DataRow dataRow = reportData.getDataRows().get(i);
-            for (int cellIndex = 0; cellIndex < dataRow.getCells().size(); cellIndex++) {
-                cloneCell(sheet, sourceRow, targetRow, dataRow.getCells().get(cellIndex), cellIndex);
+            final List<DataCell> dataCells = dataRow.getCells();
+            for (int cellIndex = 0; cellIndex < dataCells.size(); cellIndex++) {
+                cloneCell(sheet, columnStyles, targetRow, dataCells.get(cellIndex), cellIndex);
             }
         }
-        sheet.shiftRows(reportData.getDataStartRow() + 1, reportData.getDataStartRow() + reportData.getRowsCount() + 1, -1);
     }
 
     private void reindexTablesRows(final Sheet sheet) {
-        for (final XSSFTable table : currentWorkbook.getSheet(reportData.getSheetName()).getTables()) {
-            final Row lastDataRow = sheet.getRow(reportData.getDataStartRow() + reportData.getRowsCount() - 1);
-            final CTTable ctTable = table.getCTTable();
+        final List<XSSFTable> tables = ((XSSFSheet) sheet).getTables();
+        final int lastDataRow = templatePlan.getTemplateRowIndex() + reportData.getRowsCount() - 1;
+        for (int i = 0; i < templatePlan.getTablesCount() && i < tables.size(); i++) {
+            final CTTable ctTable = tables.get(i).getCTTable();
             final AreaReference reference = new AreaReference(
-                table.getStartCellReference(),
-                new CellReference(lastDataRow.getCell(table.getEndColIndex()))
+                templatePlan.getTableStart(i),
+                new CellReference(lastDataRow, templatePlan.getTableEndColumn(i))
             );
             ctTable.setRef(reference.formatAsString());
         }
     }
+
+    private static final class TemplatedFormula {
+        private final Ptg[] ptgs;
+        private int rowdiff;
+
+        private TemplatedFormula(final Ptg[] ptgs) {
+            this.ptgs = ptgs;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package org.greports.engine;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFTable;
+import org.greports.content.cell.HeaderCell;
+
+import java.util.List;
+
+/**
+ * What the injection of a report needs from its template sheet, analyzed once per template and report class:
+ * the style and the formula of every column of the template row, the value type of every column declared by the
+ * annotations of the report and the start cell of the tables to reindex. The plan does not depend on the data
+ * of the reports. Styles are kept by index, so the plan is valid for every workbook opened from the same template.
+ */
+final class TemplatePlan {
+
+    private static final short NO_STYLE = -1;
+
+    private final int headerRowIndex;
+    private final int templateRowIndex;
+    private final short[] columnStyles;
+    private final String[] columnFormulas;
+    private final ValueType[] columnValueTypes;
+    private final CellReference[] tableStarts;
+    private final int[] tableEndColumns;
+
+    private TemplatePlan(final Sheet sheet, final ReportData reportData) {
+        this.headerRowIndex = reportData.getHeader().getRowIndex();
+        this.templateRowIndex = reportData.getDataStartRow();
+
+        final Row templateRow = sheet.getRow(templateRowIndex);
+        final int columnsCount = templateRow != null ? Math.max(templateRow.getLastCellNum(), 0) : 0;
+        this.columnStyles = new short[columnsCount];
+        this.columnFormulas = new String[columnsCount];
+        for (int i = 0; i < columnsCount; i++) {
+            final Cell cell = templateRow != null ? templateRow.getCell(i) : null;
+            columnStyles[i] = cell != null ? cell.getCellStyle().getIndex() : NO_STYLE;
+            if(cell != null && CellType.FORMULA.equals(cell.getCellTypeEnum())) {
+                columnFormulas[i] = cell.getCellFormula();
+            }
+        }
+
+        // The header cells are built from the annotations of the report class, in the same order as the data cells
+        final List<HeaderCell> headerCells = reportData.getHeader().getCells();
+        this.columnValueTypes = new ValueType[headerCells.size()];
+        for (int i = 0; i < headerCells.size(); i++) {
+            columnValueTypes[i] = headerCells.get(i).getColumnValueType();
+        }
+
+        final List<XSSFTable> tables = ((XSSFSheet) sheet).getTables();
+        this.tableStarts = new CellReference[tables.size()];
+        this.tableEndColumns = new int[tables.size()];
+        for (int i = 0; i < tables.size(); i++) {
+            tableStarts[i] = tables.get(i).getStartCellReference();
+            tableEndColumns[i] = tables.get(i).getEndColIndex();
+        }
+    }
+
+    /**
+     * @param sheet template sheet, before the data is injected
+     * @param reportData report to inject. Only its configuration and its header are read
+     * @return the plan of the injection of the report in the sheet
+     */
+    static TemplatePlan compile(final Sheet sheet, final ReportData reportData) {
+        return new TemplatePlan(sheet, reportData);
+    }
+
+    int getHeaderRowIndex() {
+        return headerRowIndex;
+    }
+
+    int getTemplateRowIndex() {
+        return templateRowIndex;
+    }
+
+    /**
+     * @param workbook workbook opened from the template
+     * @return the style of every column of the template row in the workbook, or null for the columns without cell
+     */
+    CellStyle[] getColumnStyles(final Workbook workbook) {
+        final CellStyle[] styles = new CellStyle[columnStyles.length];
+        for (int i = 0; i < columnStyles.length; i++) {
+            styles[i] = columnStyles[i] != NO_STYLE ? workbook.getCellStyleAt(columnStyles[i]) : null;
+        }
+        return styles;
+    }
+
+    /**
+     * @param column column index
+     * @return the formula of the template row cell of the column, or null if it has no formula
+     */
+    String getColumnFormula(final int column) {
+        return column < columnFormulas.length ? columnFormulas[column] : null;
+    }
+
+    /**
+     * @param column column index
+     * @param valueType value type of the data cell of the column, for the columns out of the plan
+     * @return the value type of the column
+     */
+    ValueType getColumnValueType(final int column, final ValueType valueType) {
+        return column < columnValueTypes.length && columnValueTypes[column] != null ? columnValueTypes[column] : valueType;
+    }
+
+    int getTablesCount() {
+        return tableStarts.length;
+    }
+
+    CellReference getTableStart(final int table) {
+        return tableStarts[table];
+    }
+
+    int getTableEndColumn(final int table) {
+        return tableEndColumns[table];
+    }
+}
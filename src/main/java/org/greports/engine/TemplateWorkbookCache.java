@@ -0,0 +1,159 @@
+package org.greports.engine;
+
+import org.apache.poi.util.IOUtils;
+import org.greports.exceptions.ReportEngineRuntimeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Cache of the report templates shared by all the generations. Every template is read once from its URL
+ * and kept in memory as an uncompressed package, so every generation opens its own copy of the workbook
+ * without reading and inflating the template again. The least recently used templates are evicted when
+ * the cache is full, and a template is read again if the last modification date or the length of its URL changes.
+ * The injection plans of the reports are kept with their template, so they are discarded with it.
+ */
+public final class TemplateWorkbookCache {
+
+    public static final int DEFAULT_MAX_SIZE = 32;
+
+    private static int maxSize = DEFAULT_MAX_SIZE;
+    private static final Map<String, CachedTemplate> templates = new LinkedHashMap<String, CachedTemplate>(16, 0.75f, true) {
+        private static final long serialVersionUID = 3570195123461875325L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedTemplate> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private TemplateWorkbookCache() {}
+
+    /**
+     * @param size maximum number of cached templates. With 0 templates are not cached
+     */
+    public static synchronized void setMaxSize(int size) {
+        if(size < 0) {
+            throw new ReportEngineRuntimeException("The size of the templates cache cannot be negative", TemplateWorkbookCache.class);
+        }
+        maxSize = size;
+        while(templates.size() > maxSize) {
+            templates.remove(templates.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Removes a template from the cache, so it is read again by the next generation.
+     * @param templateUrl template URL
+     */
+    public static synchronized void invalidate(URL templateUrl) {
+        templates.remove(templateUrl.toExternalForm());
+    }
+
+    /**
+     * Removes all the templates from the cache.
+     */
+    public static synchronized void invalidateAll() {
+        templates.clear();
+    }
+
+    /**
+     * @param templateUrl template URL
+     * @return the template content, which can be opened as a new workbook, with the injection plans read from the same content
+     * @throws IOException exception reading the template
+     */
+    static OpenedTemplate openTemplate(URL templateUrl) throws IOException {
+        synchronized (TemplateWorkbookCache.class) {
+            if(maxSize == 0) {
+                return new OpenedTemplate(templateUrl.openStream(), null);
+            }
+        }
+
+        final String key = templateUrl.toExternalForm();
+        final URLConnection connection = templateUrl.openConnection();
+        final long lastModified = connection.getLastModified();
+        final long length = connection.getContentLengthLong();
+
+        CachedTemplate template;
+        synchronized (TemplateWorkbookCache.class) {
+            template = templates.get(key);
+        }
+        if(template == null || template.lastModified != lastModified || template.length != length) {
+            // The template is read out of the lock, so other templates are served meanwhile
+            template = new CachedTemplate(readUncompressed(connection.getInputStream()), lastModified, length);
+            synchronized (TemplateWorkbookCache.class) {
+                templates.put(key, template);
+            }
+        } else {
+            connection.getInputStream().close();
+        }
+        // The plans are taken from the same cached template as the content, even if the template is read again meanwhile
+        return new OpenedTemplate(new ByteArrayInputStream(template.content), template.plans);
+    }
+
+    /**
+     * The entries are stored without compression, so opening a copy does not need to inflate them.
+     */
+    private static byte[] readUncompressed(InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try(ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+            ZipOutputStream zipOutputStream = new ZipOutputStream(content)) {
+            zipOutputStream.setLevel(Deflater.NO_COMPRESSION);
+            ZipEntry entry;
+            while((entry = zipInputStream.getNextEntry()) != null) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getName()));
+                IOUtils.copy(zipInputStream, zipOutputStream);
+                zipOutputStream.closeEntry();
+            }
+        }
+        return content.toByteArray();
+    }
+
+    /**
+     * Content of a template and the injection plans of its reports, which keep the style indexes of that content.
+     */
+    static final class OpenedTemplate {
+        private final InputStream content;
+        private final Map<String, TemplatePlan> plans;
+
+        private OpenedTemplate(final InputStream content, final Map<String, TemplatePlan> plans) {
+            this.content = content;
+            this.plans = plans;
+        }
+
+        InputStream getContent() {
+            return content;
+        }
+
+        /**
+         * @return the injection plans of the reports of the template, or null if the template is not cached
+         */
+        Map<String, TemplatePlan> getPlans() {
+            return plans;
+        }
+    }
+
+    private static final class CachedTemplate {
+        private final byte[] content;
+        private final long lastModified;
+        private final long length;
+        private final Map<String, TemplatePlan> plans = new ConcurrentHashMap<>();
+
+        private CachedTemplate(final byte[] content, final long lastModified, final long length) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
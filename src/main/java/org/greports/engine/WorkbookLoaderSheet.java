@@ -0,0 +1,95 @@
+package org.greports.engine;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.greports.exceptions.ReportEngineReflectionException;
+
+import java.util.Date;
+
+/**
+ * Sheet of a workbook loaded in memory. The sheet is only read, so the cells of the rows handed over
+ * can be read from other threads.
+ */
+final class WorkbookLoaderSheet implements ReportLoaderSheet {
+
+    private final Sheet sheet;
+
+    WorkbookLoaderSheet(final Sheet sheet) {
+        this.sheet = sheet;
+    }
+
+    @Override
+    public String getSheetName() {
+        return sheet.getSheetName();
+    }
+
+    @Override
+    public void readRows(final int firstRow, final int lastRow, final int trailingRows, final RowHandler rowHandler) throws ReportEngineReflectionException {
+        final int readLastRow = Math.min(lastRow, sheet.getLastRowNum() - trailingRows);
+        for (int rowIndex = firstRow; rowIndex <= readLastRow; rowIndex++) {
+            final Row row = sheet.getRow(rowIndex);
+            final int index = rowIndex;
+            rowHandler.handle(rowIndex, column -> new WorkbookCell(index, column, row != null ? row.getCell(column) : null));
+        }
+    }
+
+    /**
+     * Cell of the sheet. Missing cells are read as blank cells.
+     */
+    private static final class WorkbookCell implements ReportLoaderCell {
+        private final int rowIndex;
+        private final int columnIndex;
+        private final Cell cell;
+
+        private WorkbookCell(final int rowIndex, final int columnIndex, final Cell cell) {
+            this.rowIndex = rowIndex;
+            this.columnIndex = columnIndex;
+            this.cell = cell;
+        }
+
+        @Override
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        @Override
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        @Override
+        public CellType getCellTypeEnum() {
+            return cell != null ? cell.getCellTypeEnum() : CellType.BLANK;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            return cell != null && cell.getBooleanCellValue();
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            return cell != null ? cell.getNumericCellValue() : 0d;
+        }
+
+        @Override
+        public String getStringCellValue() {
+            return cell != null ? cell.getRichStringCellValue().getString() : "";
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            return cell != null ? cell.getDateCellValue() : null;
+        }
+
+        @Override
+        public String getCellFormula() {
+            if(cell == null) {
+                throw new IllegalStateException("Cannot get a FORMULA value from a BLANK cell");
+            }
+            return cell.getCellFormula();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.greports.engine;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.styles.ReportStyle;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Cell styles and fonts created for the report styles of a workbook.
+ * Styles and fonts are shared by value, so equal styles produced by different style builders
+ * (i.e. conditional row and cell styles) are created only once in the workbook,
+ * whatever the sheet they are applied to. Striped row styles are derived once per base style and color.
+ */
+final class WorkbookStylesCache {
+
+    private final XSSFWorkbook workbook;
+    private final Map<Triple<List<ReportStyle>, String, Short>, XSSFCellStyle> cellStyles = new HashMap<>();
+    private final Map<List<Object>, XSSFFont> fonts = new HashMap<>();
+    private final Map<Pair<Short, Color>, XSSFCellStyle> stripedCellStyles = new HashMap<>();
+
+    WorkbookStylesCache(final XSSFWorkbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * @param styles report styles to apply, in order. Only the first one can be a style
+     *               which does not clone the previous style
+     * @param baseStyle current style of the cell. Its data format is kept, and its other attributes
+     *                  too if the first report style clones the previous style
+     * @param styleApplier applies the report style attributes to a new cell style
+     * @return the cell style of the workbook for the report styles and the base style
+     */
+    XSSFCellStyle getCellStyle(final List<ReportStyle> styles, final CellStyle baseStyle, final BiConsumer<ReportStyle, XSSFCellStyle> styleApplier) {
+        final boolean cloneBaseStyle = styles.get(0).isClonePreviousStyle();
+        // Cloned styles depend on the whole base style, not only on its data format
+        final Short baseStyleIndex = cloneBaseStyle ? baseStyle.getIndex() : null;
+        final Triple<List<ReportStyle>, String, Short> key = Triple.of(styles, baseStyle.getDataFormatString(), baseStyleIndex);
+        XSSFCellStyle cellStyle = cellStyles.get(key);
+        if(cellStyle == null) {
+            cellStyle = workbook.createCellStyle();
+            cellStyle.setDataFormat(baseStyle.getDataFormat());
+            if(cloneBaseStyle) {
+                cellStyle.cloneStyleFrom(baseStyle);
+            }
+            for (final ReportStyle style : styles) {
+                styleApplier.accept(style, cellStyle);
+            }
+            cellStyles.put(key, cellStyle);
+        }
+        return cellStyle;
+    }
+
+    /**
+     * @param baseStyle current style of the cell
+     * @param stripedRowsColor color of the striped rows
+     * @return the cell style of the workbook for the base style filled with the striped rows color
+     */
+    XSSFCellStyle getStripedCellStyle(final CellStyle baseStyle, final Color stripedRowsColor) {
+        final Pair<Short, Color> key = Pair.of(baseStyle.getIndex(), stripedRowsColor);
+        XSSFCellStyle cellStyle = stripedCellStyles.get(key);
+        if(cellStyle == null) {
+            cellStyle = workbook.createCellStyle();
+            cellStyle.cloneStyleFrom(baseStyle);
+            cellStyle.setFillForegroundColor(new XSSFColor(stripedRowsColor));
+            cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            stripedCellStyles.put(key, cellStyle);
+        }
+        return cellStyle;
+    }
+
+    /**
+     * @param style report style with at least one font attribute
+     * @return the font of the workbook with the font attributes of the style
+     */
+    XSSFFont getFont(final ReportStyle style) {
+        final List<Object> key = Arrays.asList(style.getFontName(), style.getFontSize(), style.getFontColor(), style.getBoldFont(),
+                style.getItalicFont(), style.getUnderlineFont(), style.getStrikeoutFont());
+        XSSFFont font = fonts.get(key);
+        if(font == null) {
+            font = workbook.createFont();
+            if(style.getFontName() != null) {
+                font.setFontName(style.getFontName());
+            }
+            if(style.getFontSize() != null) {
+                font.setFontHeightInPoints(style.getFontSize());
+            }
+            if(style.getFontColor() != null) {
+                font.setColor(new XSSFColor(style.getFontColor()));
+            }
+            if(style.getBoldFont() != null) {
+                font.setBold(style.getBoldFont());
+            }
+            if(style.getItalicFont() != null) {
+                font.setItalic(style.getItalicFont());
+            }
+            if(style.getUnderlineFont() != null) {
+                font.setUnderline(style.getUnderlineFont());
+            }
+            if(style.getStrikeoutFont() != null) {
+                font.setStrikeout(style.getStrikeoutFont());
+            }
+            fonts.put(key, font);
+        }
+        return font;
+    }
+}
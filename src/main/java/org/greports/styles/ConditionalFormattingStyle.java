@@ -0,0 +1,40 @@
+package org.greports.styles;
+
+import org.greports.positioning.RectangleRange;
+import org.greports.styles.stylesbuilders.ReportStyleBuilder;
+import org.greports.styles.stylesbuilders.ReportStylesBuilder;
+
+import java.io.Serializable;
+
+/**
+ * A style written as native Excel conditional formatting of the data rows of a report.
+ * The formula references the cells of the row by column id, and the style is applied to the
+ * columns of the style range or, if the column id is set, to that column only.
+ */
+public class ConditionalFormattingStyle implements Serializable {
+    private static final long serialVersionUID = -2804361875240929313L;
+
+    private final String formula;
+    private final ReportStyleBuilder<RectangleRange> styleBuilder;
+    private final String columnId;
+
+    public ConditionalFormattingStyle(final String formula, final ReportStyleBuilder<RectangleRange> styleBuilder, final String columnId) {
+        this.formula = formula;
+        this.styleBuilder = styleBuilder;
+        this.columnId = columnId;
+    }
+
+    public String getFormula() {
+        return formula;
+    }
+
+    public String getColumnId() {
+        return columnId;
+    }
+
+    public ReportStyle getStyle() {
+        final ReportStylesBuilder reportStylesBuilder = new ReportStylesBuilder();
+        reportStylesBuilder.addStyleBuilder(styleBuilder);
+        return reportStylesBuilder.getStyles().get(0);
+    }
+}
@@ -10,6 +10,7 @@ import org.greports.styles.interfaces.StripedRows;
 
 import java.awt.*;
 import java.io.Serializable;
+import java.util.Objects;
 
 public class ReportStyle implements Serializable {
     private static final long serialVersionUID = 4183157194410162170L;
@@ -344,4 +345,58 @@ public class ReportStyle implements Serializable {
         return range;
     }
 
+    /**
+     * Two styles are equal if they have the same attributes, whatever the range they are applied to.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReportStyle that = (ReportStyle) o;
+        return clonePreviousStyle == that.clonePreviousStyle &&
+                Objects.equals(fontName, that.fontName) &&
+                Objects.equals(foregroundColor, that.foregroundColor) &&
+                Objects.equals(fontColor, that.fontColor) &&
+                fillPattern == that.fillPattern &&
+                Objects.equals(fontSize, that.fontSize) &&
+                Objects.equals(boldFont, that.boldFont) &&
+                Objects.equals(italicFont, that.italicFont) &&
+                underlineFont == that.underlineFont &&
+                Objects.equals(strikeoutFont, that.strikeoutFont) &&
+                horizontalAlignment == that.horizontalAlignment &&
+                verticalAlignment == that.verticalAlignment &&
+                borderTop == that.borderTop &&
+                borderBottom == that.borderBottom &&
+                borderLeft == that.borderLeft &&
+                borderRight == that.borderRight &&
+                Objects.equals(borderColor, that.borderColor) &&
+                stripedRowsIndex == that.stripedRowsIndex &&
+                Objects.equals(stripedRowsColor, that.stripedRowsColor) &&
+                Objects.equals(leftBorderColor, that.leftBorderColor) &&
+                Objects.equals(rightBorderColor, that.rightBorderColor) &&
+                Objects.equals(topBorderColor, that.topBorderColor) &&
+                Objects.equals(bottomBorderColor, that.bottomBorderColor) &&
+                Objects.equals(hidden, that.hidden) &&
+                Objects.equals(indentation, that.indentation) &&
+                Objects.equals(locked, that.locked) &&
+                Objects.equals(quotePrefixed, that.quotePrefixed) &&
+                Objects.equals(rotation, that.rotation) &&
+                Objects.equals(shrinkToFit, that.shrinkToFit) &&
+                Objects.equals(rowHeight, that.rowHeight) &&
+                Objects.equals(columnWidth, that.columnWidth) &&
+                Objects.equals(wrapText, that.wrapText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fontName, foregroundColor, fontColor, fillPattern, fontSize, boldFont, italicFont, underlineFont,
+                strikeoutFont, horizontalAlignment, verticalAlignment, borderTop, borderBottom, borderLeft, borderRight,
+                borderColor, stripedRowsIndex, stripedRowsColor, clonePreviousStyle, leftBorderColor, rightBorderColor,
+                topBorderColor, bottomBorderColor, hidden, indentation, locked, quotePrefixed, rotation, shrinkToFit,
+                rowHeight, columnWidth, wrapText);
+    }
 }
@@ -5,6 +5,8 @@ import org.greports.styles.stylesbuilders.ReportStylesBuilder;
 
 import java.awt.*;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ReportStylesContainer implements Serializable {
     private static final long serialVersionUID = 3171712599995917074L;
@@ -12,6 +14,7 @@ public class ReportStylesContainer implements Serializable {
     private ReportStylesBuilder reportStylesBuilder;
     private StripedRowsIndex stripedRowsIndex;
     private Color stripedRowsColor;
+    private final List<ConditionalFormattingStyle> conditionalFormattingStyles = new ArrayList<>();
 
     public ReportStylesBuilder getReportStylesBuilder() {
         return reportStylesBuilder;
@@ -39,12 +42,22 @@ public class ReportStylesContainer implements Serializable {
         return this;
     }
 
+    public List<ConditionalFormattingStyle> getConditionalFormattingStyles() {
+        return conditionalFormattingStyles;
+    }
+
+    public ReportStylesContainer addConditionalFormattingStyle(ConditionalFormattingStyle conditionalFormattingStyle) {
+        this.conditionalFormattingStyles.add(conditionalFormattingStyle);
+        return this;
+    }
+
     public void mergeStyles(ReportStylesContainer other) {
         if(reportStylesBuilder == null){
             reportStylesBuilder = other.getReportStylesBuilder();
         } else {
             reportStylesBuilder.mergeStyles(other.getReportStylesBuilder());
         }
+        conditionalFormattingStyles.addAll(other.getConditionalFormattingStyles());
     }
 
     public ReportStylesBuilder createReportStylesBuilder() {
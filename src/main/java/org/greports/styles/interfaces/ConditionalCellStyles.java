@@ -4,6 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.greports.positioning.Position;
 import org.greports.styles.stylesbuilders.ReportStyleBuilder;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -11,4 +12,16 @@ import java.util.function.Predicate;
 public interface ConditionalCellStyles {
     Map<String, List<Pair<String, Predicate<Integer>>>> isCellStyled();
     Map<String, List<Pair<String, ReportStyleBuilder<Position>>>> getIndexBasedCellStyle();
+
+    /**
+     * Map's entry key represents a report name to which the rules apply.
+     * Each pair contains a column id and an Excel formula which returns {@code true} if the cell is styled.
+     * The styles of the columns with formula are written once as native conditional formatting
+     * and their predicates of {@link #isCellStyled()} are not evaluated.
+     * @see ConditionalRowStyles#getConditionalFormula()
+     * @return {@link Map}
+     */
+    default Map<String, List<Pair<String, String>>> getConditionalCellFormulas() {
+        return Collections.emptyMap();
+    }
 }
@@ -3,6 +3,7 @@ package org.greports.styles.interfaces;
 import org.greports.positioning.HorizontalRange;
 import org.greports.styles.stylesbuilders.ReportStyleBuilder;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.IntPredicate;
@@ -29,4 +30,18 @@ public interface ConditionalRowStyles {
      * @return {@link Map}
      */
     Map<String, List<ReportStyleBuilder<HorizontalRange>>> getIndexBasedStyle();
+
+    /**
+     * Map's entry key represents a report name to which the rule applies.
+     * The value is an Excel formula which returns {@code true} if the row is styled.
+     * The formula references the cells of the row by column id, i.e. {@code "PRICE>1000"}.
+     * If a report has a formula, the styles of {@link #getIndexBasedStyle()} are written once
+     * as native conditional formatting of the data rows and {@link #isStyled()} is not evaluated.
+     * Formulas are read from a new instance of the report class. Only the font, fill and border
+     * attributes of the styles are supported by conditional formatting.
+     * @return {@link Map}
+     */
+    default Map<String, String> getConditionalFormula() {
+        return Collections.emptyMap();
+    }
 }
@@ -24,27 +24,83 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
- * Annotation utils class. This one is for internal use of greports engine
+ * Annotation utils class. This one is for internal use of greports engine.
+ * The annotations metadata of every class is cached by class and report name.
+ * Use {@link #invalidateCache(Class)} or {@link #invalidateCache()} if the classes are reloaded.
  */
 public class AnnotationUtils {
 
+    private static final AtomicInteger cacheGeneration = new AtomicInteger();
+    private static final ClassValue<ClassMetadata> classMetadata = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type, cacheGeneration.get());
+        }
+    };
+
     private AnnotationUtils() {}
 
+    /**
+     * Removes the cached annotations metadata of a class.
+     * @param clazz class
+     */
+    public static void invalidateCache(Class<?> clazz) {
+        classMetadata.remove(clazz);
+    }
+
+    /**
+     * Invalidates the cached annotations metadata of all classes.
+     */
+    public static void invalidateCache() {
+        cacheGeneration.incrementAndGet();
+    }
+
+    private static ClassMetadata getMetadata(Class<?> clazz) {
+        ClassMetadata metadata = classMetadata.get(clazz);
+        if(metadata.generation != cacheGeneration.get()) {
+            classMetadata.remove(clazz);
+            metadata = classMetadata.get(clazz);
+        }
+        return metadata;
+    }
+
+    private static <V> V getOrLoad(Map<String, V> cache, String reportName, MetadataLoader<V> loader) throws ReportEngineReflectionException {
+        V value = cache.get(reportName);
+        if(value == null) {
+            value = loader.load();
+            cache.put(reportName, value);
+        }
+        return value;
+    }
+
     private static Report getReportAnnotation(Class<?> clazz) {
         return Optional.ofNullable(clazz.getAnnotation(Report.class))
                 .orElseThrow(() -> new ReportEngineRuntimeException(String.format("%s class has no %s.Report annotation", clazz.toString(), Report.class.getPackage().getName()), clazz));
     }
 
     public static Configuration getReportConfiguration(Class<?> clazz, String reportName) {
+        final Map<String, Configuration> configurations = getMetadata(clazz).configurations;
+        Configuration configuration = configurations.get(reportName);
+        if(configuration == null) {
+            configuration = loadReportConfiguration(clazz, reportName);
+            configurations.put(reportName, configuration);
+        }
+        return configuration;
+    }
+
+    private static Configuration loadReportConfiguration(Class<?> clazz, String reportName) {
         final Report report = getReportAnnotation(clazz);
         return Arrays.stream(report.reportConfigurations())
             .filter(entry -> Arrays.asList(entry.reportName()).contains(reportName))
@@ -60,48 +116,77 @@ public class AnnotationUtils {
     }
 
     public static <T> void methodsWithColumnAnnotations(Class<T> clazz, Function<Pair<Column, Method>, Void> columnFunction, String reportName) throws ReportEngineReflectionException {
-        for (Field declaredField : getAllClassFields(clazz)) {
+        for (final Pair<Column, Method> pair : getColumnsWithMethods(clazz, reportName)) {
+            columnFunction.apply(pair);
+        }
+    }
+
+    /**
+     * @param clazz report class
+     * @param reportName report name
+     * @return an unmodifiable list of the report columns with their getters, in declaration order.
+     * The same list instance is returned until the cache of the class is invalidated.
+     * @throws ReportEngineReflectionException if a column field has no getter
+     */
+    public static List<Pair<Column, Method>> getColumnsWithMethods(Class<?> clazz, String reportName) throws ReportEngineReflectionException {
+        final ClassMetadata metadata = getMetadata(clazz);
+        return getOrLoad(metadata.columns, reportName, () -> loadColumnsWithMethods(clazz, metadata, reportName));
+    }
+
+    private static List<Pair<Column, Method>> loadColumnsWithMethods(Class<?> clazz, ClassMetadata metadata, String reportName) throws ReportEngineReflectionException {
+        final List<Pair<Column, Method>> list = new ArrayList<>();
+        for (Field declaredField : metadata.fields) {
             final Column[] columns = declaredField.getAnnotationsByType(Column.class);
             for (Column column : columns) {
                 if (getReportColumnPredicate(reportName).test(column)) {
                     final Method method = ReflectionUtils.fetchFieldGetter(declaredField, clazz);
-                    columnFunction.apply(Pair.of(column, method));
+                    list.add(Pair.of(column, method));
                 }
             }
         }
 
-        for (final Method declaredMethod : getAllClassMethods(clazz)) {
+        for (final Method declaredMethod : metadata.methods) {
             final ColumnGetter[] columnGetters = declaredMethod.getAnnotationsByType(ColumnGetter.class);
             for (final ColumnGetter columnGetter : columnGetters) {
                 final Column column = AnnotationsConverter.convert(columnGetter);
                 if (getReportColumnPredicate(reportName).test(column)) {
-                    columnFunction.apply(Pair.of(column, declaredMethod));
+                    list.add(Pair.of(column, declaredMethod));
                 }
             }
         }
+        return Collections.unmodifiableList(list);
     }
 
-
     public static <T> void cellsWithMethodsFunction(Class<T> clazz, Function<Pair<Cell, Method>, Void> cellFunction, String reportName) throws ReportEngineReflectionException {
-        for (Field declaredField : getAllClassFields(clazz)) {
+        final ClassMetadata metadata = getMetadata(clazz);
+        final List<Pair<Cell, Method>> cells = getOrLoad(metadata.cells, reportName, () -> loadCellsWithMethods(clazz, metadata, reportName));
+        for (final Pair<Cell, Method> pair : cells) {
+            cellFunction.apply(pair);
+        }
+    }
+
+    private static List<Pair<Cell, Method>> loadCellsWithMethods(Class<?> clazz, ClassMetadata metadata, String reportName) throws ReportEngineReflectionException {
+        final List<Pair<Cell, Method>> list = new ArrayList<>();
+        for (Field declaredField : metadata.fields) {
             final Cell[] cells = declaredField.getAnnotationsByType(Cell.class);
             for (Cell cell : cells) {
                 if (getReportCellPredicate(reportName).test(cell)) {
                     final Method method = ReflectionUtils.fetchFieldGetter(declaredField, clazz);
-                    cellFunction.apply(Pair.of(cell, method));
+                    list.add(Pair.of(cell, method));
                 }
             }
         }
 
-        for (final Method declaredMethod : getAllClassMethods(clazz)) {
+        for (final Method declaredMethod : metadata.methods) {
             final CellGetter[] cellGetters = declaredMethod.getAnnotationsByType(CellGetter.class);
             for (final CellGetter cellGetter : cellGetters) {
                 final Cell cell = AnnotationsConverter.convert(cellGetter);
                 if (getReportCellPredicate(reportName).test(cell)) {
-                    cellFunction.apply(Pair.of(cell, declaredMethod));
+                    list.add(Pair.of(cell, declaredMethod));
                 }
             }
         }
+        return Collections.unmodifiableList(list);
     }
 
     private static <T> List<Field> getAllClassFields(Class<T> clazz){
@@ -121,8 +206,18 @@ public class AnnotationUtils {
     }
 
     public static <T> Column getSubreportLastColumn(Class<T> clazz, String reportName) {
+        final Map<String, Optional<Column>> lastColumns = getMetadata(clazz).subreportLastColumns;
+        Optional<Column> lastColumn = lastColumns.get(reportName);
+        if(lastColumn == null) {
+            lastColumn = Optional.ofNullable(loadSubreportLastColumn(clazz, reportName));
+            lastColumns.put(reportName, lastColumn);
+        }
+        return lastColumn.orElse(null);
+    }
+
+    private static <T> Column loadSubreportLastColumn(Class<T> clazz, String reportName) {
         List<Column> list = new ArrayList<>();
-        final List<Field> fields = getAllClassFields(clazz);
+        final List<Field> fields = getMetadata(clazz).fields;
         for (final Field field : fields) {
             final Column[] columns = field.getAnnotationsByType(Column.class);
             for (final Column columnAnnotation : columns) {
@@ -132,7 +227,7 @@ public class AnnotationUtils {
             }
         }
 
-        final List<Method> methods = getAllClassMethods(clazz);
+        final List<Method> methods = getMetadata(clazz).methods;
         for (final Method method : methods) {
             final ColumnGetter[] columnGetters = method.getAnnotationsByType(ColumnGetter.class);
             for (final ColumnGetter columnGetter : columnGetters) {
@@ -146,12 +241,18 @@ public class AnnotationUtils {
     }
 
     public static Map<Annotation, Method> loadBlockAnnotations(final ReportBlock reportBlock) throws ReportEngineReflectionException {
+        final Class<?> clazz = reportBlock.getBlockClass();
+        final ClassMetadata metadata = getMetadata(clazz);
+        final String reportName = reportBlock.getReportName();
+        return new HashMap<>(getOrLoad(metadata.blockAnnotations, reportName, () -> loadBlockAnnotations(clazz, metadata, reportName)));
+    }
+
+    private static Map<Annotation, Method> loadBlockAnnotations(final Class<?> clazz, final ClassMetadata metadata, final String reportName) throws ReportEngineReflectionException {
         Map<Annotation, Method> map = new HashMap<>();
-        Class<?> clazz = reportBlock.getBlockClass();
-        final List<Field> fields = getAllClassFields(clazz);
+        final List<Field> fields = metadata.fields;
         for (final Field field : fields) {
             final Optional<Subreport> optionalSubreport = Arrays.stream(field.getAnnotationsByType(Subreport.class))
-                    .filter(subreport -> Arrays.asList(subreport.reportName()).contains(reportBlock.getReportName()))
+                    .filter(subreport -> Arrays.asList(subreport.reportName()).contains(reportName))
                     .findFirst();
             if(optionalSubreport.isPresent()){
                 final Subreport subreport = optionalSubreport.get();
@@ -159,7 +260,7 @@ public class AnnotationUtils {
             }
 
             final Optional<Column> optionalColumn = Arrays.stream(field.getAnnotationsByType(Column.class))
-                    .filter(column -> Arrays.asList(column.reportName()).contains(reportBlock.getReportName()))
+                    .filter(column -> Arrays.asList(column.reportName()).contains(reportName))
                     .findFirst();
             if(optionalColumn.isPresent()) {
                 final Column column = optionalColumn.get();
@@ -167,10 +268,10 @@ public class AnnotationUtils {
             }
         }
 
-        final List<Method> methods = getAllClassMethods(clazz);
+        final List<Method> methods = metadata.methods;
         for (final Method method : methods) {
             final Optional<SubreportSetter> optionalSubreport = Arrays.stream(method.getAnnotationsByType(SubreportSetter.class))
-                    .filter(subreport -> Arrays.asList(subreport.reportName()).contains(reportBlock.getReportName()))
+                    .filter(subreport -> Arrays.asList(subreport.reportName()).contains(reportName))
                     .findFirst();
             if(optionalSubreport.isPresent()){
                 final Subreport subreport = AnnotationsConverter.convert(optionalSubreport.get());
@@ -178,7 +279,7 @@ public class AnnotationUtils {
             }
 
             final Optional<ColumnSetter> optionalColumn = Arrays.stream(method.getAnnotationsByType(ColumnSetter.class))
-                    .filter(column -> Arrays.asList(column.reportName()).contains(reportBlock.getReportName()))
+                    .filter(column -> Arrays.asList(column.reportName()).contains(reportName))
                     .findFirst();
             if(optionalColumn.isPresent()) {
                 final Column column = AnnotationsConverter.convert(optionalColumn.get());
@@ -186,33 +287,43 @@ public class AnnotationUtils {
             }
         }
 
-        Configuration configuration = getReportConfiguration(clazz, reportBlock.getReportName());
+        Configuration configuration = getReportConfiguration(clazz, reportName);
         for (SpecialColumn specialColumn : configuration.specialColumns()) {
             map.put(specialColumn, null);
         }
-        return map;
+        return Collections.unmodifiableMap(map);
     }
 
     public static <T> void methodsWithSubreportAnnotations(Class<T> clazz, Function<Pair<Subreport, Method>, Void> columnFunction, String reportName) throws ReportEngineReflectionException {
-        for (Field field : getAllClassFields(clazz)) {
+        final ClassMetadata metadata = getMetadata(clazz);
+        final List<Pair<Subreport, Method>> subreports = getOrLoad(metadata.subreports, reportName, () -> loadSubreportsWithMethods(clazz, metadata, reportName));
+        for (final Pair<Subreport, Method> pair : subreports) {
+            columnFunction.apply(pair);
+        }
+    }
+
+    private static List<Pair<Subreport, Method>> loadSubreportsWithMethods(Class<?> clazz, ClassMetadata metadata, String reportName) throws ReportEngineReflectionException {
+        final List<Pair<Subreport, Method>> list = new ArrayList<>();
+        for (Field field : metadata.fields) {
             final Subreport[] subreports = field.getAnnotationsByType(Subreport.class);
             for (Subreport subreport : subreports) {
                 if (getSubreportPredicate(reportName).test(subreport)) {
                     final Method method = ReflectionUtils.fetchFieldGetter(field, clazz);
-                    columnFunction.apply(Pair.of(subreport, method));
+                    list.add(Pair.of(subreport, method));
                 }
             }
         }
 
-        for (final Method method : getAllClassMethods(clazz)) {
+        for (final Method method : metadata.methods) {
             final SubreportGetter[] subreportGetters = method.getAnnotationsByType(SubreportGetter.class);
             for (final SubreportGetter subreportGetter : subreportGetters) {
                 final Subreport subreport = AnnotationsConverter.convert(subreportGetter);
                 if (getSubreportPredicate(reportName).test(subreport)) {
-                    columnFunction.apply(Pair.of(subreport, method));
+                    list.add(Pair.of(subreport, method));
                 }
             }
         }
+        return Collections.unmodifiableList(list);
     }
 
     private static Predicate<Annotation> getReportColumnPredicate(String reportName) {
@@ -249,7 +360,8 @@ public class AnnotationUtils {
                     translator.translate(column.title()),
                     Utils.generateId(idPrefix, column.id()),
                     column.autoSizeColumn(),
-                    column.columnWidth())
+                    column.columnWidth(),
+                    column.valueType())
             );
             return null;
         };
@@ -269,4 +381,31 @@ public class AnnotationUtils {
     public static boolean hasNestedTarget(Cell cell) {
         return !cell.target().equals(StringUtils.EMPTY);
     }
+
+    @FunctionalInterface
+    private interface MetadataLoader<V> {
+        V load() throws ReportEngineReflectionException;
+    }
+
+    /**
+     * Annotations metadata of a class. The fields and methods of the class hierarchy are read once,
+     * the annotations of every report are loaded the first time they are requested.
+     */
+    private static final class ClassMetadata {
+        private final int generation;
+        private final List<Field> fields;
+        private final List<Method> methods;
+        private final Map<String, Configuration> configurations = new ConcurrentHashMap<>();
+        private final Map<String, List<Pair<Column, Method>>> columns = new ConcurrentHashMap<>();
+        private final Map<String, List<Pair<Cell, Method>>> cells = new ConcurrentHashMap<>();
+        private final Map<String, List<Pair<Subreport, Method>>> subreports = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Column>> subreportLastColumns = new ConcurrentHashMap<>();
+        private final Map<String, Map<Annotation, Method>> blockAnnotations = new ConcurrentHashMap<>();
+
+        private ClassMetadata(Class<?> clazz, int generation) {
+            this.generation = generation;
+            this.fields = Collections.unmodifiableList(getAllClassFields(clazz));
+            this.methods = Collections.unmodifiableList(getAllClassMethods(clazz));
+        }
+    }
 }
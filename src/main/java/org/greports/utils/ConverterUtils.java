@@ -1,21 +1,54 @@
 package org.greports.utils;
 
 import org.greports.annotations.Converter;
+import org.greports.annotations.StatefulConverter;
 import org.greports.converters.AbstractValueConverter;
 import org.greports.exceptions.ReportEngineReflectionException;
-
-import java.util.List;
+import org.greports.exceptions.ReportEngineRuntimeException;
 
 /**
  * Converter utils class. This one is for internal use of greports engine.
+ * Stateless converters are instantiated once per converter class and shared.
+ * Converters annotated with {@link StatefulConverter} are instantiated for every conversion.
  */
 public class ConverterUtils {
 
+    private static final ClassValue<AbstractValueConverter> sharedConverters = new ClassValue<AbstractValueConverter>() {
+        @Override
+        protected AbstractValueConverter computeValue(Class<?> type) {
+            try {
+                return (AbstractValueConverter) ReflectionUtils.newInstance(type);
+            } catch (ReportEngineReflectionException e) {
+                throw new ReportEngineRuntimeException(e.getMessage(), e, type);
+            }
+        }
+    };
+
     private ConverterUtils() {}
 
     public static Object convertValue(final Object value, final Converter converter) throws ReportEngineReflectionException {
+        return resolve(converter).convert(value);
+    }
+
+    /**
+     * Resolves the converter instance and params once, so they can be reused for all the values of a column.
+     * @param converter converter annotation
+     * @return the resolved converter
+     * @throws ReportEngineReflectionException if the converter class cannot be instantiated
+     */
+    public static ResolvedConverter resolve(final Converter converter) throws ReportEngineReflectionException {
         final Class<? extends AbstractValueConverter> clazz = converter.converterClass();
-        final AbstractValueConverter valueConverter = ReflectionUtils.newInstance(clazz);
-        return valueConverter.convert(value, converter.params());
+        AbstractValueConverter sharedConverter = null;
+        if(!clazz.isAnnotationPresent(StatefulConverter.class)) {
+            try {
+                sharedConverter = sharedConverters.get(clazz);
+            } catch (ReportEngineRuntimeException e) {
+                if(e.getCause() instanceof ReportEngineReflectionException) {
+                    throw (ReportEngineReflectionException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return new ResolvedConverter(clazz, sharedConverter, converter.params());
     }
 }
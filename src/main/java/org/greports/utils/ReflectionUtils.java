@@ -2,6 +2,9 @@ package org.greports.utils;
 
 import org.greports.exceptions.ReportEngineReflectionException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -10,11 +13,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionUtils {
 
     private static final List<String> gettersPrefixes = new ArrayList<>(Arrays.asList("get", "is"));
     private static final List<String> settersPrefixes = new ArrayList<>(Collections.singletonList("set"));
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Map<String, MethodHandle>> getterHandles = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private ReflectionUtils() {}
 
@@ -99,6 +111,41 @@ public class ReflectionUtils {
         }
     }
 
+    /**
+     * Converts a getter into a method handle with the {@code (Object)Object} type,
+     * so it can be invoked with {@link #invokeGetterHandle(MethodHandle, Object)}.
+     */
+    public static MethodHandle toGetterHandle(Method method) throws ReportEngineReflectionException {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ReportEngineReflectionException(ErrorMessages.INV_METHOD_WITH_NO_ACCESS, e, ReflectionUtils.class);
+        }
+    }
+
+    /**
+     * Same as {@link #fetchFieldGetter(String, Class)}, but returns the getter as a method handle.
+     * Handles are cached per class and field name.
+     */
+    public static MethodHandle fetchFieldGetterHandle(String fieldName, Class<?> clazz) throws ReportEngineReflectionException {
+        final Map<String, MethodHandle> handles = getterHandles.get(clazz);
+        MethodHandle handle = handles.get(fieldName);
+        if(handle == null) {
+            handle = toGetterHandle(fetchFieldGetter(fieldName, clazz));
+            handles.put(fieldName, handle);
+        }
+        return handle;
+    }
+
+    public static Object invokeGetterHandle(MethodHandle handle, Object object) throws ReportEngineReflectionException {
+        try {
+            return (Object) handle.invokeExact(object);
+        } catch (Throwable e) {
+            throw new ReportEngineReflectionException(ErrorMessages.INV_METHOD, e, ReflectionUtils.class);
+        }
+    }
+
     public static boolean isListOrArray(Class<?> clazz){
         return clazz != null && (clazz.isArray() || clazz.equals(List.class));
     }
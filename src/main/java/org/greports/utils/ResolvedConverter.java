@@ -0,0 +1,30 @@
+package org.greports.utils;
+
+import org.greports.converters.AbstractValueConverter;
+import org.greports.exceptions.ReportEngineReflectionException;
+
+/**
+ * A {@link org.greports.annotations.Converter} resolved to its converter instance and params.
+ * Create it with {@link ConverterUtils#resolve(org.greports.annotations.Converter)}.
+ */
+public final class ResolvedConverter {
+
+    private final Class<? extends AbstractValueConverter> converterClass;
+    private final AbstractValueConverter sharedConverter;
+    private final String[] params;
+
+    ResolvedConverter(final Class<? extends AbstractValueConverter> converterClass, final AbstractValueConverter sharedConverter, final String[] params) {
+        this.converterClass = converterClass;
+        this.sharedConverter = sharedConverter;
+        this.params = params;
+    }
+
+    public Object convert(final Object value) throws ReportEngineReflectionException {
+        final AbstractValueConverter valueConverter = sharedConverter != null ? sharedConverter : ReflectionUtils.newInstance(converterClass);
+        return valueConverter.convert(value, params);
+    }
+
+    public Class<? extends AbstractValueConverter> getConverterClass() {
+        return converterClass;
+    }
+}
@@ -0,0 +1,57 @@
+package org.greports.utils;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Translations of a translations file shared by all the translators of the same file.
+ * Message patterns are compiled once, and messages without parameters are memoized,
+ * since the same keys (titles, repeated column values) are translated many times.
+ */
+final class TranslationBundle {
+
+    private static final int MAX_CACHED_ENTRIES = 10000;
+
+    private final Map<String, Object> translations;
+    private final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+    private final Map<String, String> messages = new ConcurrentHashMap<>();
+
+    TranslationBundle(final Map<String, Object> translations) {
+        this.translations = Collections.unmodifiableMap(translations);
+    }
+
+    Map<String, Object> getTranslations() {
+        return translations;
+    }
+
+    String translate(final String key, final Object... params) {
+        if(params.length > 0) {
+            return format(key, params);
+        }
+        String message = messages.get(key);
+        if(message == null) {
+            message = format(key, params);
+            if(messages.size() < MAX_CACHED_ENTRIES) {
+                messages.put(key, message);
+            }
+        }
+        return message;
+    }
+
+    private String format(final String key, final Object[] params) {
+        final String pattern = translations.getOrDefault(key, key).toString();
+        MessageFormat messageFormat = formats.get(pattern);
+        if(messageFormat == null) {
+            messageFormat = new MessageFormat(pattern);
+            if(formats.size() < MAX_CACHED_ENTRIES) {
+                formats.put(pattern, messageFormat);
+            }
+        }
+        // MessageFormat is not thread safe
+        synchronized (messageFormat) {
+            return messageFormat.format(params);
+        }
+    }
+}
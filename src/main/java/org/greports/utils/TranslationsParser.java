@@ -9,9 +9,12 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TranslationsParser {
 
+    private static final Map<String, TranslationBundle> bundles = new ConcurrentHashMap<>();
+
     public enum FileExtensions {
         YML("yml"), YAML("yaml");
 
@@ -37,19 +40,45 @@ public class TranslationsParser {
         this.fileExtension = fileExtension;
     }
 
+    /**
+     * @return the translations of the file. Files are parsed once and shared until {@link #clearCache()} is called.
+     */
     public Map<String, Object> getTranslations() {
-        return parse(Utils.getLocale(locale));
+        return getBundle().getTranslations();
+    }
+
+    TranslationBundle getBundle() {
+        final Locale parsedLocale = Utils.getLocale(locale);
+        final String fileURL = getFileURL(parsedLocale);
+        TranslationBundle bundle = bundles.get(fileURL);
+        if(bundle == null) {
+            bundle = new TranslationBundle(parse(parsedLocale));
+            bundles.put(fileURL, bundle);
+        }
+        return bundle;
+    }
+
+    /**
+     * Removes the cached translations, so the files are parsed again.
+     */
+    public static void clearCache() {
+        bundles.clear();
+    }
+
+    private String getFileURL(Locale locale) {
+        return String.format("%smessages.%s.%s", translationsDir, locale.getLanguage(), fileExtension.toString());
     }
 
     public Map<String, Object> parse(Locale locale) {
         Yaml yaml = new Yaml();
         InputStream inputStream;
-        final String fileURL = String.format("%smessages.%s.%s", translationsDir, locale.getLanguage(), fileExtension.toString());
+        final String fileURL = getFileURL(locale);
         final URL resource = getClass().getClassLoader().getResource(fileURL);
         try {
             if(resource != null){
                 inputStream = resource.openStream();
-                return yaml.load(inputStream);
+                final Map<String, Object> translations = yaml.load(inputStream);
+                return translations != null ? translations : new HashMap<>();
             } else {
                 return new HashMap<>();
             }
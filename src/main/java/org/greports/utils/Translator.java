@@ -2,14 +2,11 @@ package org.greports.utils;
 
 import org.greports.engine.ReportConfiguration;
 
-import java.text.MessageFormat;
-import java.util.Map;
-
 public class Translator {
-    private final Map<String, Object> translations;
+    private final TranslationBundle bundle;
 
     private Translator(final TranslationsParser translationsParser) {
-        this.translations = translationsParser.getTranslations();
+        this.bundle = translationsParser.getBundle();
     }
 
     public Translator(ReportConfiguration config) {
@@ -18,7 +15,7 @@ public class Translator {
 
     public String translate(String key, Object... params){
         if(key != null) {
-            return MessageFormat.format(translations.getOrDefault(key, key).toString(), params);
+            return bundle.translate(key, params);
         }
         return null;
     }
@@ -0,0 +1,53 @@
+package org.greports.utils;
+
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.exceptions.ReportEngineRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+/**
+ * A getter compiled to a method handle, optionally followed by a nested target path
+ * like {@code "address.city"}. The getters of the nested path are resolved for the runtime
+ * class of every intermediate value and cached per class.
+ */
+public final class ValueGetter {
+
+    private static final String NESTED_VALUE_DELIMITER_REGEX = "\\.";
+    private static final String[] NO_NESTED_PATH = new String[0];
+
+    private final MethodHandle handle;
+    private final String[] nestedPath;
+
+    /**
+     * @param method getter of the value
+     * @param nestedTarget nested target path or null if the value is not nested
+     * @throws ReportEngineReflectionException if the getter cannot be accessed
+     */
+    public ValueGetter(final Method method, final String nestedTarget) throws ReportEngineReflectionException {
+        this.handle = ReflectionUtils.toGetterHandle(method);
+        this.nestedPath = splitNestedTarget(nestedTarget);
+    }
+
+    public Object get(final Object target) throws ReportEngineReflectionException {
+        final Object value = target != null ? ReflectionUtils.invokeGetterHandle(handle, target) : null;
+        return getNestedValue(value, nestedPath);
+    }
+
+    public static String[] splitNestedTarget(final String nestedTarget) {
+        if(nestedTarget == null || nestedTarget.isEmpty()) {
+            return NO_NESTED_PATH;
+        }
+        return nestedTarget.split(NESTED_VALUE_DELIMITER_REGEX);
+    }
+
+    public static Object getNestedValue(Object value, final String[] nestedPath) throws ReportEngineReflectionException {
+        for (final String field : nestedPath) {
+            if(value == null) {
+                throw new ReportEngineRuntimeException(String.format("Nested field %s cannot be null", field), ValueGetter.class);
+            }
+            value = ReflectionUtils.invokeGetterHandle(ReflectionUtils.fetchFieldGetterHandle(field, value.getClass()), value);
+        }
+        return value;
+    }
+}
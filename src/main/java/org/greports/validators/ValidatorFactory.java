@@ -4,22 +4,22 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ValidatorFactory {
 
     private ValidatorFactory() {
     }
 
-    protected static final Map<Pair<Class<? extends AbstractValidator>, String>, AbstractValidator> _validators = new HashMap<>();
+    protected static final Map<Pair<Class<? extends AbstractValidator>, String>, AbstractValidator> _validators = new ConcurrentHashMap<>();
 
     public static AbstractValidator get(Class<? extends AbstractValidator> clazz, String value) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
         Pair<Class<? extends AbstractValidator>, String> pair = Pair.of(clazz, value);
         if(!_validators.containsKey(pair)){
             Constructor<? extends AbstractValidator> constructor = clazz.getDeclaredConstructor(String.class);
             AbstractValidator validator = constructor.newInstance(value);
-            _validators.put(pair, validator);
+            _validators.putIfAbsent(pair, validator);
         }
         return _validators.get(pair);
     }
@@ -1,4 +1,5 @@
 import models.Car;
+import models.Order;
 import models.Person;
 import org.apache.log4j.Level;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.BeforeAll;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
@@ -29,11 +31,14 @@ public class AbstractTest {
             throw new ReportEngineRuntimeException(String.format("You need to define the '%s' environment variable in order to run tests.", OUTPUT_TEST_DIR_ENV_KEY), AbstractTest.class);
         }
 
+        FILE_PATH = getFilePath(OUTPUT_FILE_NAME);
+    }
+
+    protected static String getFilePath(String fileName) {
         if(String.valueOf(OUTPUT_TEST_DIR.charAt(OUTPUT_TEST_DIR.length() - 1)).equals(File.separator)) {
-            FILE_PATH = OUTPUT_TEST_DIR + OUTPUT_FILE_NAME;
-        } else {
-            FILE_PATH = OUTPUT_TEST_DIR + File.separator + OUTPUT_FILE_NAME;
+            return OUTPUT_TEST_DIR + fileName;
         }
+        return OUTPUT_TEST_DIR + File.separator + fileName;
     }
 
     protected static final Date currentDate = new Date();
@@ -80,6 +85,18 @@ public class AbstractTest {
         }
     }
 
+    protected static List<Order> createOrders(int count) {
+        final List<Order> orders = new ArrayList<>();
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2020, Calendar.JANUARY, 1);
+        for(int i = 0; i < count; i++) {
+            orders.add(new Order(i, "Customer " + (i % 7), i % 5 + 1, i * 12.5, calendar.getTime()));
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        return orders;
+    }
+
     protected static void loadCars() {
         try {
             reportLoader = new ReportLoader(FILE_PATH, Car.REPORT_NAME);
@@ -0,0 +1,137 @@
+import models.Order;
+import models.ValidatedOrder;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportLoader;
+import org.greports.engine.ReportLoader.ReportLoaderErrorTreatment;
+import org.greports.engine.ReportLoaderError;
+import org.greports.engine.ReportLoaderResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchBindingTest extends AbstractTest {
+
+    private static final int ORDERS_COUNT = 40;
+    private static final int DATA_START_ROW_INDEX = 1;
+    private static final String REPEATED_CUSTOMER = "Repeated customer";
+
+    private static String filePath;
+
+    @BeforeAll
+    static void generateOrders() throws IOException, ReportEngineReflectionException {
+        filePath = getFilePath("OrdersToLoadInBatches.xlsx");
+        new ReportGenerator().parse(createOrders(ORDERS_COUNT), Order.REPORT_NAME, Order.class).getResult().writeToPath(filePath);
+    }
+
+    @Test
+    void batchSizesTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final List<ValidatedOrder> expected = loadWithoutBatches();
+        for(final int batchSize : new int[]{1, 7, 15, ORDERS_COUNT, ORDERS_COUNT + 1}) {
+            for(final boolean streaming : new boolean[]{false, true}) {
+                final List<ReportLoaderResult> batches = loadInBatches(batchSize, streaming, false);
+                assertEquals((ORDERS_COUNT + batchSize - 1) / batchSize, batches.size());
+                for(int i = 0; i < batches.size() - 1; i++) {
+                    assertEquals(batchSize, batches.get(i).getResult(ValidatedOrder.class).size());
+                }
+                final int lastBatchSize = ORDERS_COUNT % batchSize == 0 ? batchSize : ORDERS_COUNT % batchSize;
+                assertEquals(lastBatchSize, batches.get(batches.size() - 1).getResult(ValidatedOrder.class).size());
+                LoaderAssertions.assertSameInstances(expected, concatenateInstances(batches));
+            }
+        }
+    }
+
+    @Test
+    void parallelBatchesTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final List<ReportLoaderResult> batches = loadInBatches(15, false, false);
+        final List<ReportLoaderResult> parallelBatches = loadInBatches(15, false, true);
+        assertEquals(batches.size(), parallelBatches.size());
+        for(int i = 0; i < batches.size(); i++) {
+            LoaderAssertions.assertSameInstances(batches.get(i).getResult(ValidatedOrder.class), parallelBatches.get(i).getResult(ValidatedOrder.class));
+            LoaderAssertions.assertSameErrors(batches.get(i).getErrors(ValidatedOrder.class), parallelBatches.get(i).getErrors(ValidatedOrder.class));
+        }
+    }
+
+    @Test
+    void cellErrorsInTheirBatchTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final int batchSize = 10;
+        final List<ReportLoaderResult> batches = loadInBatches(batchSize, false, false);
+        final List<ReportLoaderError> batchesCellErrors = new ArrayList<>();
+        for(int i = 0; i < batches.size(); i++) {
+            final List<ReportLoaderError> cellErrors = cellErrors(batches.get(i).getErrors(ValidatedOrder.class));
+            // Quantities of 4 and 5 units fail, two rows of every five
+            assertEquals(batchSize * 2 / 5, cellErrors.size());
+            assertErrorsInBatch(cellErrors, i, batchSize);
+            batchesCellErrors.addAll(cellErrors);
+        }
+        final ReportLoader loader = new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            final ReportLoaderResult result = loader.bindForClass(ValidatedOrder.class, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR).getLoaderResult();
+            LoaderAssertions.assertSameErrors(cellErrors(result.getErrors(ValidatedOrder.class)), batchesCellErrors);
+        } finally {
+            loader.close();
+        }
+    }
+
+    @Test
+    void columnValidationsPerBatchTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        // There are seven customers, so they are not repeated in batches of seven consecutive rows
+        for(final ReportLoaderResult batch : loadInBatches(7, false, false)) {
+            assertTrue(columnErrors(batch.getErrors(ValidatedOrder.class)).isEmpty());
+        }
+        final int batchSize = 10;
+        final List<ReportLoaderResult> batches = loadInBatches(batchSize, false, false);
+        for(int i = 0; i < batches.size(); i++) {
+            final List<ReportLoaderError> columnErrors = columnErrors(batches.get(i).getErrors(ValidatedOrder.class));
+            assertEquals(1, columnErrors.size());
+            assertErrorsInBatch(columnErrors, i, batchSize);
+        }
+    }
+
+    private static List<ValidatedOrder> loadWithoutBatches() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            return loader.bindForClass(ValidatedOrder.class, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR).getLoaderResult().getResult(ValidatedOrder.class);
+        } finally {
+            loader.close();
+        }
+    }
+
+    private static List<ReportLoaderResult> loadInBatches(int batchSize, boolean streaming, boolean parallel) throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final List<ReportLoaderResult> batches = new ArrayList<>();
+        final ReportLoader loader = streaming ? ReportLoader.streaming(filePath, ValidatedOrder.REPORT_NAME) : new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            loader.setParallelBinding(parallel).bindForClass(ValidatedOrder.class, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, batchSize, batches::add);
+        } finally {
+            loader.close();
+        }
+        return batches;
+    }
+
+    private static List<ValidatedOrder> concatenateInstances(List<ReportLoaderResult> batches) {
+        return batches.stream().flatMap(batch -> batch.getResult(ValidatedOrder.class).stream()).collect(Collectors.toList());
+    }
+
+    private static List<ReportLoaderError> cellErrors(List<ReportLoaderError> errors) {
+        return errors.stream().filter(error -> !REPEATED_CUSTOMER.equals(error.getErrorMsg())).collect(Collectors.toList());
+    }
+
+    private static List<ReportLoaderError> columnErrors(List<ReportLoaderError> errors) {
+        return errors.stream().filter(error -> REPEATED_CUSTOMER.equals(error.getErrorMsg())).collect(Collectors.toList());
+    }
+
+    private static void assertErrorsInBatch(List<ReportLoaderError> errors, int batchIndex, int batchSize) {
+        final int firstRowIndex = DATA_START_ROW_INDEX + batchIndex * batchSize;
+        for(final ReportLoaderError error : errors) {
+            assertTrue(error.getRowIndex() >= firstRowIndex && error.getRowIndex() < firstRowIndex + batchSize, error.getCellReference());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import models.Order;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.engine.ReportGenerator;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CollectedFormulaRangesTest extends AbstractTest {
+
+    private static final int AMOUNT_COLUMN = 3;
+
+    @Test
+    void consecutiveRowsRangesTest() throws IOException, ReportEngineReflectionException {
+        // Orders 0, 5, 10, 15 and 20 have one unit, the data starts at the second row
+        final List<Order> orders = createOrders(24);
+        assertEquals("SUM(D3:D6,D8:D11,D13:D16,D18:D21,D23:D25)", generateCollectedFormula(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersRanges.xlsx"));
+    }
+
+    @Test
+    void singleRowRangesTest() throws IOException, ReportEngineReflectionException {
+        final List<Order> orders = createOrders(8);
+        orders.get(2).setQuantity(1);
+        assertEquals("SUM(D3:D3,D5:D6,D8:D9)", generateCollectedFormula(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersSingleRowRanges.xlsx"));
+    }
+
+    @Test
+    void chunkedRowsRangesTest() throws IOException, ReportEngineReflectionException {
+        // Ranges are joined across the chunks they were collected from
+        final List<Order> orders = createOrders(24);
+        assertEquals("SUM(D3:D6,D8:D11,D13:D16,D18:D21,D23:D25)", generateCollectedFormula(new ReportGenerator().setStreamingMode(true).parseIterator(orders.iterator(), Order.REPORT_NAME, Order.class, 4), "OrdersChunkedRanges.xlsx"));
+    }
+
+    private static String generateCollectedFormula(ReportGenerator reportGenerator, String fileName) throws IOException {
+        final String filePath = getFilePath(fileName);
+        reportGenerator.getResult().writeToPath(filePath);
+        try(XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+            final Sheet sheet = workbook.getSheet("Orders");
+            final Row row = sheet.getRow(sheet.getLastRowNum());
+            assertEquals("Multiple units", row.getCell(1).getStringCellValue());
+            final Cell cell = row.getCell(AMOUNT_COLUMN);
+            return cell.getCellFormula();
+        }
+    }
+}
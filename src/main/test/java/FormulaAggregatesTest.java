@@ -0,0 +1,111 @@
+import models.Order;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.engine.ReportGenerator;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class FormulaAggregatesTest extends AbstractTest {
+
+    private static final int ORDERS_COUNT = 24;
+    private static final int QUANTITY_COLUMN = 2;
+    private static final int AMOUNT_COLUMN = 3;
+    private static final int DATE_COLUMN = 4;
+
+    private static List<Order> orders;
+
+    @BeforeAll
+    static void createTestOrders() {
+        orders = createOrders(ORDERS_COUNT);
+    }
+
+    @Test
+    void precomputedAggregatesTest() throws IOException, ReportEngineReflectionException {
+        final String filePath = getFilePath("OrdersAggregates.xlsx");
+        new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class).getResult().writeToPath(filePath);
+        assertAggregates(filePath);
+    }
+
+    @Test
+    void precomputedChunkedAggregatesTest() throws IOException, ReportEngineReflectionException {
+        final String filePath = getFilePath("OrdersChunkedAggregates.xlsx");
+        new ReportGenerator().setStreamingMode(true).parseIterator(orders.iterator(), Order.REPORT_NAME, Order.class, 5).getResult().writeToPath(filePath);
+        assertAggregates(filePath);
+    }
+
+    @Test
+    void precomputedAggregatesEvaluationTest() throws IOException, ReportEngineReflectionException {
+        final String filePath = getFilePath("OrdersAggregates.xlsx");
+        new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class).getResult().writeToPath(filePath);
+        try(XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+            final FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+            final Sheet sheet = workbook.getSheet("Orders");
+            for(int rowIndex = ORDERS_COUNT + 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
+                final Row row = sheet.getRow(rowIndex);
+                if(row == null) {
+                    continue;
+                }
+                for(final Cell cell : row) {
+                    if(CellType.FORMULA.equals(cell.getCellTypeEnum())) {
+                        // The cached result is the value Excel computes for the formula
+                        assertEquals(evaluator.evaluate(cell).getNumberValue(), cell.getNumericCellValue(), 0.0001, cell.getCellFormula());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertAggregates(String filePath) throws IOException {
+        double quantitySum = 0;
+        double amountSum = 0;
+        double collectedAmountSum = 0;
+        int maxQuantity = 0;
+        for(final Order order : orders) {
+            quantitySum += order.getQuantity();
+            amountSum += order.getAmount();
+            maxQuantity = Math.max(maxQuantity, order.getQuantity());
+            if(order.getQuantity() > 1) {
+                collectedAmountSum += order.getAmount();
+            }
+        }
+        try(XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+            final Sheet sheet = workbook.getSheet("Orders");
+            final Row totalRow = findSpecialRow(sheet, "Total");
+            assertEquals(ORDERS_COUNT, totalRow.getCell(0).getNumericCellValue(), 0);
+            assertEquals(quantitySum, totalRow.getCell(QUANTITY_COLUMN).getNumericCellValue(), 0);
+            assertEquals(amountSum, totalRow.getCell(AMOUNT_COLUMN).getNumericCellValue(), 0.0001);
+
+            final Row averageRow = findSpecialRow(sheet, "Average");
+            assertEquals(maxQuantity, averageRow.getCell(QUANTITY_COLUMN).getNumericCellValue(), 0);
+            assertEquals(amountSum / ORDERS_COUNT, averageRow.getCell(AMOUNT_COLUMN).getNumericCellValue(), 0.0001);
+            assertEquals(DateUtil.getExcelDate(orders.get(0).getDate()), averageRow.getCell(DATE_COLUMN).getNumericCellValue(), 0);
+
+            final Row collectedRow = findSpecialRow(sheet, "Multiple units");
+            assertEquals(collectedAmountSum, collectedRow.getCell(AMOUNT_COLUMN).getNumericCellValue(), 0.0001);
+        }
+    }
+
+    private static Row findSpecialRow(Sheet sheet, String label) {
+        for(int rowIndex = sheet.getLastRowNum(); rowIndex > ORDERS_COUNT; rowIndex--) {
+            final Row row = sheet.getRow(rowIndex);
+            final Cell cell = row != null ? row.getCell(1) : null;
+            if(cell != null && CellType.STRING.equals(cell.getCellTypeEnum()) && label.equals(cell.getStringCellValue())) {
+                assertEquals(CellType.FORMULA, row.getCell(AMOUNT_COLUMN).getCellTypeEnum());
+                return row;
+            }
+        }
+        return fail("No special row " + label);
+    }
+}
@@ -0,0 +1,32 @@
+import org.greports.engine.ReportLoaderError;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the results of two loaders. Instances are compared by their string representation.
+ */
+final class LoaderAssertions {
+
+    private LoaderAssertions() {}
+
+    static void assertSameInstances(List<?> expected, List<?> actual) {
+        assertEquals(toStrings(expected), toStrings(actual));
+    }
+
+    static void assertSameErrors(List<ReportLoaderError> expected, List<ReportLoaderError> actual) {
+        assertEquals(errorsToStrings(expected), errorsToStrings(actual));
+    }
+
+    static List<String> toStrings(List<?> instances) {
+        return instances.stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    private static List<String> errorsToStrings(List<ReportLoaderError> errors) {
+        return errors.stream()
+                .map(error -> error.getSheetName() + "!" + error.getRowIndex() + ":" + error.getColumnIndex() + " " + error.getColumnTitle() + ": " + error.getErrorMsg() + " (" + error.getErrorValue() + ")")
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,96 @@
+import models.Order;
+import models.ValidatedOrder;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportLoader;
+import org.greports.engine.ReportLoader.ReportLoaderErrorTreatment;
+import org.greports.engine.ReportLoaderResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.exceptions.ReportEngineValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelBindingTest extends AbstractTest {
+
+    // Several chunks of rows, the last one not full
+    private static final int ORDERS_COUNT = 2000;
+
+    private static String filePath;
+
+    @BeforeAll
+    static void generateOrders() throws IOException, ReportEngineReflectionException {
+        filePath = getFilePath("OrdersToLoadInParallel.xlsx");
+        new ReportGenerator().setStreamingMode(true).parse(createOrders(ORDERS_COUNT), Order.REPORT_NAME, Order.class).getResult().writeToPath(filePath);
+    }
+
+    @Test
+    void commonPoolTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        for(final ReportLoaderErrorTreatment errorTreatment : new ReportLoaderErrorTreatment[]{ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR}) {
+            for(final boolean streaming : new boolean[]{false, true}) {
+                assertSameResults(load(errorTreatment, streaming, null), load(errorTreatment, streaming, ForkJoinPool.commonPool()));
+            }
+        }
+    }
+
+    @Test
+    void forkJoinPoolTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for(final boolean streaming : new boolean[]{false, true}) {
+                assertSameResults(load(ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR, streaming, null), load(ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR, streaming, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void fixedThreadPoolTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for(final boolean streaming : new boolean[]{false, true}) {
+                assertSameResults(load(ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, streaming, null), load(ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, streaming, executor));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void throwErrorTest() {
+        for(final boolean streaming : new boolean[]{false, true}) {
+            final ReportEngineValidationException exception = assertThrows(ReportEngineValidationException.class, () -> load(ReportLoaderErrorTreatment.THROW_ERROR, streaming, null));
+            final ReportEngineValidationException parallelException = assertThrows(ReportEngineValidationException.class, () -> load(ReportLoaderErrorTreatment.THROW_ERROR, streaming, ForkJoinPool.commonPool()));
+            assertEquals(exception.getMessage(), parallelException.getMessage());
+        }
+    }
+
+    /**
+     * @param executor executor of the parallel binding, or {@code null} to bind the rows sequentially
+     */
+    private static ReportLoaderResult load(ReportLoaderErrorTreatment errorTreatment, boolean streaming, Executor executor) throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = streaming ? ReportLoader.streaming(filePath, ValidatedOrder.REPORT_NAME) : new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            if(executor != null) {
+                loader.setParallelBinding(true, executor);
+            }
+            return loader.bindForClass(ValidatedOrder.class, errorTreatment).getLoaderResult();
+        } finally {
+            loader.close();
+        }
+    }
+
+    private static void assertSameResults(ReportLoaderResult expected, ReportLoaderResult actual) {
+        LoaderAssertions.assertSameInstances(expected.getResult(ValidatedOrder.class), actual.getResult(ValidatedOrder.class));
+        LoaderAssertions.assertSameErrors(expected.getErrors(ValidatedOrder.class), actual.getErrors(ValidatedOrder.class));
+    }
+}
@@ -0,0 +1,114 @@
+import models.Order;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportGeneratorResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PullBasedInputTest extends AbstractTest {
+
+    private static final int ORDERS_COUNT = 24;
+
+    private static List<Order> orders;
+    private static String expectedPath;
+
+    @BeforeAll
+    static void generateExpectedOrders() throws IOException, ReportEngineReflectionException {
+        orders = createOrders(ORDERS_COUNT);
+        expectedPath = generate(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersList.xlsx");
+    }
+
+    @Test
+    void iteratorChunkBoundariesTest() throws IOException, ReportEngineReflectionException {
+        // Chunks of a single row, splitting row groups, ending at a group end and bigger than the data
+        for(final int chunkSize : new int[]{1, 4, 5, 6, ORDERS_COUNT - 1, ORDERS_COUNT, ORDERS_COUNT + 1}) {
+            final String inMemoryPath = generate(new ReportGenerator().parseIterator(orders.iterator(), Order.REPORT_NAME, Order.class, chunkSize), "OrdersIterator.xlsx");
+            assertSameOrders(inMemoryPath);
+            final String streamingPath = generate(new ReportGenerator().setStreamingMode(true).parseIterator(orders.iterator(), Order.REPORT_NAME, Order.class, chunkSize), "OrdersIteratorStreaming.xlsx");
+            assertSameOrders(streamingPath);
+        }
+    }
+
+    @Test
+    void emptyIteratorTest() throws IOException, ReportEngineReflectionException {
+        final String listPath = generate(new ReportGenerator().parse(new ArrayList<>(), Order.REPORT_NAME, Order.class), "OrdersEmptyList.xlsx");
+        final String iteratorPath = generate(new ReportGenerator().setStreamingMode(true).parseIterator(Collections.<Order>emptyIterator(), Order.REPORT_NAME, Order.class, 4), "OrdersEmptyIterator.xlsx");
+        try(XSSFWorkbook expected = new XSSFWorkbook(listPath); XSSFWorkbook actual = new XSSFWorkbook(iteratorPath)) {
+            SheetAssertions.assertSheetsEqual(expected.getSheet("Orders"), actual.getSheet("Orders"), false);
+        }
+    }
+
+    @Test
+    void streamTest() throws IOException, ReportEngineReflectionException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final ReportGenerator reportGenerator = new ReportGenerator().parseStream(orders.stream().onClose(() -> closed.set(true)), Order.REPORT_NAME, Order.class);
+        assertFalse(closed.get());
+        assertSameOrders(generate(reportGenerator, "OrdersStream.xlsx"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void streamClosedOnFailureTest() throws ReportEngineReflectionException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        // The failing entry is pulled with the second chunk, while the report is written
+        final Stream<Order> stream = IntStream.range(0, ReportGenerator.DEFAULT_CHUNK_SIZE + 10)
+                .mapToObj(i -> {
+                    if(i == ReportGenerator.DEFAULT_CHUNK_SIZE + 5) {
+                        throw new IllegalStateException("Source failure");
+                    }
+                    return orders.get(i % ORDERS_COUNT);
+                })
+                .onClose(() -> closed.set(true));
+        final ReportGeneratorResult result = new ReportGenerator().setStreamingMode(true).parseStream(stream, Order.REPORT_NAME, Order.class).getResult();
+        final Exception exception = assertThrows(IllegalStateException.class, () -> result.writeToPath(getFilePath("OrdersFailedStream.xlsx")));
+        assertEquals("Source failure", exception.getMessage());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void pagesTest() throws IOException, ReportEngineReflectionException {
+        final int pageSize = 5;
+        final AtomicInteger requestedPages = new AtomicInteger();
+        final ReportGenerator reportGenerator = new ReportGenerator().parsePages(page -> {
+            requestedPages.incrementAndGet();
+            final int from = page * pageSize;
+            return from < ORDERS_COUNT ? orders.subList(from, Math.min(from + pageSize, ORDERS_COUNT)) : Collections.<Order>emptyList();
+        }, Order.REPORT_NAME, Order.class);
+        assertSameOrders(generate(reportGenerator, "OrdersPages.xlsx"));
+        // Pages are requested until the first empty page
+        assertEquals(ORDERS_COUNT / pageSize + 2, requestedPages.get());
+    }
+
+    @Test
+    void nullPageTest() throws IOException, ReportEngineReflectionException {
+        final ReportGenerator reportGenerator = new ReportGenerator().parsePages(page -> page == 0 ? orders : null, Order.REPORT_NAME, Order.class);
+        assertSameOrders(generate(reportGenerator, "OrdersNullPage.xlsx"));
+    }
+
+    private static String generate(ReportGenerator reportGenerator, String fileName) throws IOException {
+        final String filePath = getFilePath(fileName);
+        reportGenerator.getResult().writeToPath(filePath);
+        return filePath;
+    }
+
+    private static void assertSameOrders(String actualPath) throws IOException {
+        try(XSSFWorkbook expected = new XSSFWorkbook(expectedPath); XSSFWorkbook actual = new XSSFWorkbook(actualPath)) {
+            SheetAssertions.assertSheetsEqual(expected.getSheet("Orders"), actual.getSheet("Orders"), false);
+        }
+    }
+}
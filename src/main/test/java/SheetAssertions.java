@@ -0,0 +1,93 @@
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the sheets of two generated workbooks, both read back as XSSF workbooks.
+ */
+final class SheetAssertions {
+
+    private SheetAssertions() {}
+
+    /**
+     * @param expected sheet generated in memory
+     * @param actual sheet to compare
+     * @param compareStyles {@code true} to compare the format, the fill, the borders and the font of every cell
+     */
+    static void assertSheetsEqual(Sheet expected, Sheet actual, boolean compareStyles) {
+        assertEquals(expected.getLastRowNum(), actual.getLastRowNum(), "Last row");
+        for(int rowIndex = 0; rowIndex <= expected.getLastRowNum(); rowIndex++) {
+            final Row expectedRow = expected.getRow(rowIndex);
+            final Row actualRow = actual.getRow(rowIndex);
+            assertEquals(expectedRow == null, actualRow == null, "Row " + rowIndex);
+            if(expectedRow == null) {
+                continue;
+            }
+            assertEquals(((XSSFRow) expectedRow).getCTRow().getOutlineLevel(), ((XSSFRow) actualRow).getCTRow().getOutlineLevel(), "Outline level of row " + rowIndex);
+            assertEquals(((XSSFRow) expectedRow).getCTRow().getCollapsed(), ((XSSFRow) actualRow).getCTRow().getCollapsed(), "Collapsed row " + rowIndex);
+            assertEquals(expectedRow.getZeroHeight(), actualRow.getZeroHeight(), "Hidden row " + rowIndex);
+            assertEquals(Math.max(expectedRow.getLastCellNum(), 0), Math.max(actualRow.getLastCellNum(), 0), "Cells of row " + rowIndex);
+            for(int cellIndex = 0; cellIndex < expectedRow.getLastCellNum(); cellIndex++) {
+                final String reference = new CellReference(rowIndex, cellIndex).formatAsString();
+                assertCellsEqual(expectedRow.getCell(cellIndex), actualRow.getCell(cellIndex), compareStyles, reference);
+            }
+        }
+        assertEquals(getMergedRegions(expected), getMergedRegions(actual), "Merged regions");
+    }
+
+    private static void assertCellsEqual(Cell expected, Cell actual, boolean compareStyles, String reference) {
+        assertEquals(expected == null, actual == null, reference);
+        if(expected == null) {
+            return;
+        }
+        assertEquals(expected.getCellTypeEnum(), actual.getCellTypeEnum(), reference);
+        switch(expected.getCellTypeEnum()) {
+            case STRING:
+                assertEquals(expected.getStringCellValue(), actual.getStringCellValue(), reference);
+                break;
+            case NUMERIC:
+                assertEquals(expected.getNumericCellValue(), actual.getNumericCellValue(), 0, reference);
+                break;
+            case BOOLEAN:
+                assertEquals(expected.getBooleanCellValue(), actual.getBooleanCellValue(), reference);
+                break;
+            case FORMULA:
+                assertEquals(expected.getCellFormula(), actual.getCellFormula(), reference);
+                break;
+            default:
+                break;
+        }
+        if(compareStyles) {
+            final XSSFCellStyle expectedStyle = (XSSFCellStyle) expected.getCellStyle();
+            final XSSFCellStyle actualStyle = (XSSFCellStyle) actual.getCellStyle();
+            assertEquals(expectedStyle.getDataFormatString(), actualStyle.getDataFormatString(), "Format of " + reference);
+            assertEquals(expectedStyle.getFillPatternEnum(), actualStyle.getFillPatternEnum(), "Fill pattern of " + reference);
+            assertEquals(getArgb(expectedStyle.getFillForegroundXSSFColor()), getArgb(actualStyle.getFillForegroundXSSFColor()), "Fill color of " + reference);
+            assertEquals(expectedStyle.getBorderBottomEnum(), actualStyle.getBorderBottomEnum(), "Border of " + reference);
+            assertEquals(expectedStyle.getFont().getBold(), actualStyle.getFont().getBold(), "Bold font of " + reference);
+            assertEquals(getArgb(expectedStyle.getFont().getXSSFColor()), getArgb(actualStyle.getFont().getXSSFColor()), "Font color of " + reference);
+        }
+    }
+
+    private static String getArgb(XSSFColor color) {
+        return color != null ? color.getARGBHex() : null;
+    }
+
+    private static Set<String> getMergedRegions(Sheet sheet) {
+        final Set<String> regions = new TreeSet<>();
+        for(final CellRangeAddress region : sheet.getMergedRegions()) {
+            regions.add(region.formatAsString());
+        }
+        return regions;
+    }
+}
@@ -0,0 +1,126 @@
+import models.Order;
+import models.ValidatedOrder;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportLoader;
+import org.greports.engine.ReportLoader.ReportLoaderErrorTreatment;
+import org.greports.engine.ReportLoaderResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.greports.exceptions.ReportEngineRuntimeException;
+import org.greports.exceptions.ReportEngineValidationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingLoaderTest extends AbstractTest {
+
+    private static final int ORDERS_COUNT = 40;
+    // Quantities of 4 and 5 units fail the validation of the quantity
+    private static final int INVALID_QUANTITIES_COUNT = ORDERS_COUNT * 2 / 5;
+
+    private static List<Order> orders;
+    private static String filePath;
+
+    @BeforeAll
+    static void generateOrders() throws IOException, ReportEngineReflectionException {
+        orders = createOrders(ORDERS_COUNT);
+        filePath = getFilePath("OrdersToLoad.xlsx");
+        new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class).getResult().writeToPath(filePath);
+    }
+
+    @Test
+    void loadOrdersTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = new ReportLoader(filePath, Order.REPORT_NAME);
+        final ReportLoader streamingLoader = ReportLoader.streaming(filePath, Order.REPORT_NAME);
+        try {
+            final ReportLoaderResult result = loader.bindForClass(Order.class, ReportLoaderErrorTreatment.THROW_ERROR).getLoaderResult();
+            final ReportLoaderResult streamingResult = streamingLoader.bindForClass(Order.class, ReportLoaderErrorTreatment.THROW_ERROR).getLoaderResult();
+            LoaderAssertions.assertSameInstances(orders, result.getResult(Order.class));
+            LoaderAssertions.assertSameInstances(orders, streamingResult.getResult(Order.class));
+        } finally {
+            loader.close();
+            streamingLoader.close();
+        }
+    }
+
+    @Test
+    void skipRowOnErrorTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoaderResult result = assertSameResults(ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR);
+        assertEquals(ORDERS_COUNT - INVALID_QUANTITIES_COUNT, result.getResult(ValidatedOrder.class).size());
+        // The repeated customers are reported once by the column validator
+        assertEquals(INVALID_QUANTITIES_COUNT + 1, result.getErrors(ValidatedOrder.class).size());
+    }
+
+    @Test
+    void skipColumnOnErrorTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoaderResult result = assertSameResults(ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR);
+        final List<ValidatedOrder> validatedOrders = result.getResult(ValidatedOrder.class);
+        assertEquals(ORDERS_COUNT, validatedOrders.size());
+        assertEquals(INVALID_QUANTITIES_COUNT, validatedOrders.stream().filter(order -> order.getQuantity() == null).count());
+        assertEquals(INVALID_QUANTITIES_COUNT + 1, result.getErrors(ValidatedOrder.class).size());
+    }
+
+    @Test
+    void throwErrorTest() throws IOException, InvalidFormatException {
+        final ReportLoader loader = new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        final ReportLoader streamingLoader = ReportLoader.streaming(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            final ReportEngineValidationException exception = assertThrows(ReportEngineValidationException.class, () -> loader.bindForClass(ValidatedOrder.class, ReportLoaderErrorTreatment.THROW_ERROR));
+            final ReportEngineValidationException streamingException = assertThrows(ReportEngineValidationException.class, () -> streamingLoader.bindForClass(ValidatedOrder.class, ReportLoaderErrorTreatment.THROW_ERROR));
+            assertEquals("Quantity greater than 3", exception.getMessage());
+            assertEquals(exception.getMessage(), streamingException.getMessage());
+        } finally {
+            loader.close();
+            streamingLoader.close();
+        }
+    }
+
+    @Test
+    void rowsRangeTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        final ReportLoader streamingLoader = ReportLoader.streaming(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            final ReportLoaderResult result = loader.bindForClass(ValidatedOrder.class, ValidatedOrder.REPORT_NAME, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, 5, 14).getLoaderResult();
+            final ReportLoaderResult streamingResult = streamingLoader.bindForClass(ValidatedOrder.class, ValidatedOrder.REPORT_NAME, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, 5, 14).getLoaderResult();
+            assertEquals(10, result.getResult(ValidatedOrder.class).size());
+            LoaderAssertions.assertSameInstances(result.getResult(ValidatedOrder.class), streamingResult.getResult(ValidatedOrder.class));
+            LoaderAssertions.assertSameErrors(result.getErrors(ValidatedOrder.class), streamingResult.getErrors(ValidatedOrder.class));
+        } finally {
+            loader.close();
+            streamingLoader.close();
+        }
+    }
+
+    @Test
+    void streamingReaderTest() throws IOException, InvalidFormatException {
+        final ReportLoader streamingLoader = ReportLoader.streaming(filePath, Order.REPORT_NAME);
+        try {
+            assertThrows(ReportEngineRuntimeException.class, streamingLoader::getReader);
+        } finally {
+            streamingLoader.close();
+        }
+    }
+
+    private static ReportLoaderResult assertSameResults(ReportLoaderErrorTreatment errorTreatment) throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = new ReportLoader(filePath, ValidatedOrder.REPORT_NAME);
+        final ReportLoader streamingLoader = ReportLoader.streaming(filePath, ValidatedOrder.REPORT_NAME);
+        try {
+            final ReportLoaderResult result = loader.bindForClass(ValidatedOrder.class, errorTreatment).getLoaderResult();
+            final ReportLoaderResult streamingResult = streamingLoader.bindForClass(ValidatedOrder.class, errorTreatment).getLoaderResult();
+            assertTrue(result.hasErrors());
+            assertTrue(streamingResult.hasErrors());
+            LoaderAssertions.assertSameInstances(result.getResult(ValidatedOrder.class), streamingResult.getResult(ValidatedOrder.class));
+            LoaderAssertions.assertSameErrors(result.getErrors(ValidatedOrder.class), streamingResult.getErrors(ValidatedOrder.class));
+            return result;
+        } finally {
+            loader.close();
+            streamingLoader.close();
+        }
+    }
+}
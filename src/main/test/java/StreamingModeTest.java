@@ -0,0 +1,58 @@
+import models.Order;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.engine.ReportGenerator;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class StreamingModeTest extends AbstractTest {
+
+    private static final int ORDERS_COUNT = 24;
+
+    @Test
+    void streamingOutputTest() throws IOException, ReportEngineReflectionException {
+        final List<Order> orders = createOrders(ORDERS_COUNT);
+        final String expected = generate(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersInMemory.xlsx");
+        final String actual = generate(new ReportGenerator().setStreamingMode(true).parse(orders, Order.REPORT_NAME, Order.class), "OrdersStreaming.xlsx");
+        assertSameOrders(expected, actual, true);
+    }
+
+    @Test
+    void streamingWindowSmallerThanGroupsTest() throws IOException, ReportEngineReflectionException {
+        final List<Order> orders = createOrders(ORDERS_COUNT);
+        final String expected = generate(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersInMemory.xlsx");
+        final String actual = generate(new ReportGenerator().setStreamingMode(true).setStreamingWindowSize(2).parse(orders, Order.REPORT_NAME, Order.class), "OrdersStreamingWindow.xlsx");
+        assertSameOrders(expected, actual, true);
+    }
+
+    @Test
+    void streamingEmptyReportTest() throws IOException, ReportEngineReflectionException {
+        final String expected = generate(new ReportGenerator().parse(new ArrayList<>(), Order.REPORT_NAME, Order.class), "OrdersEmptyInMemory.xlsx");
+        final String actual = generate(new ReportGenerator().setStreamingMode(true).parse(new ArrayList<>(), Order.REPORT_NAME, Order.class), "OrdersEmptyStreaming.xlsx");
+        assertSameOrders(expected, actual, true);
+    }
+
+    @Test
+    void streamingGroupsAcrossChunksTest() throws IOException, ReportEngineReflectionException {
+        final List<Order> orders = createOrders(ORDERS_COUNT);
+        final String expected = generate(new ReportGenerator().parse(orders, Order.REPORT_NAME, Order.class), "OrdersInMemory.xlsx");
+        // Chunks of 4 rows split the groups of rows 6 to 9 and 18 to 21
+        final String actual = generate(new ReportGenerator().setStreamingMode(true).parseIterator(orders.iterator(), Order.REPORT_NAME, Order.class, 4), "OrdersStreamingChunks.xlsx");
+        assertSameOrders(expected, actual, false);
+    }
+
+    private static String generate(ReportGenerator reportGenerator, String fileName) throws IOException {
+        final String filePath = getFilePath(fileName);
+        reportGenerator.getResult().writeToPath(filePath);
+        return filePath;
+    }
+
+    private static void assertSameOrders(String expectedPath, String actualPath, boolean compareStyles) throws IOException {
+        try(XSSFWorkbook expected = new XSSFWorkbook(expectedPath); XSSFWorkbook actual = new XSSFWorkbook(actualPath)) {
+            SheetAssertions.assertSheetsEqual(expected.getSheet("Orders"), actual.getSheet("Orders"), compareStyles);
+        }
+    }
+}
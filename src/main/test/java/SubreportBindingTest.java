@@ -0,0 +1,114 @@
+import models.Client;
+import models.Invoice;
+import models.InvoiceRow;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportLoader;
+import org.greports.engine.ReportLoader.ReportLoaderErrorTreatment;
+import org.greports.engine.ReportLoaderError;
+import org.greports.engine.ReportLoaderResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubreportBindingTest extends AbstractTest {
+
+    private static final int VAT_COLUMN = 3;
+    private static final String NO_VAT = "N/A";
+
+    // The clients of the second and the fifth invoices have no VAT number, so their subreport cells fail
+    private static final List<InvoiceRow> invoiceRows = Arrays.asList(
+        new InvoiceRow("F-1", 100.5, "Client 1", 1001),
+        new InvoiceRow("F-2", 200.5, "Client 2", NO_VAT),
+        new InvoiceRow("F-3", 300.5, "Client 3", 1003),
+        new InvoiceRow("F-4", 400.5, "Client 4", 1004),
+        new InvoiceRow("F-5", 500.5, "Client 5", NO_VAT),
+        new InvoiceRow("F-6", 600.5, "Client 6", 1006)
+    );
+
+    private static String filePath;
+
+    @BeforeAll
+    static void generateInvoices() throws IOException, ReportEngineReflectionException {
+        filePath = getFilePath("Invoices.xlsx");
+        new ReportGenerator().parse(invoiceRows, InvoiceRow.REPORT_NAME, InvoiceRow.class).getResult().writeToPath(filePath);
+    }
+
+    @Test
+    void skipRowOnSubreportErrorTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        for(final boolean streaming : new boolean[]{false, true}) {
+            final ReportLoaderResult result = load(ReportLoaderErrorTreatment.SKIP_ROW_ON_ERROR, streaming);
+            final List<Invoice> invoices = result.getResult(Invoice.class);
+            // The rows after a skipped row keep their own clients
+            assertEquals(expectedInvoices(true), LoaderAssertions.toStrings(invoices));
+            for(final Invoice invoice : invoices) {
+                assertNotNull(invoice.getClient());
+            }
+            assertTrue(result.getErrors(Invoice.class).isEmpty());
+            assertVatErrors(result.getErrors(Client.class));
+        }
+    }
+
+    @Test
+    void skipColumnOnSubreportErrorTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        for(final boolean streaming : new boolean[]{false, true}) {
+            final ReportLoaderResult result = load(ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR, streaming);
+            final List<Invoice> invoices = result.getResult(Invoice.class);
+            assertEquals(expectedInvoices(false), LoaderAssertions.toStrings(invoices));
+            assertNull(invoices.get(1).getClient().getVat());
+            assertEquals("Client 2", invoices.get(1).getClient().getName());
+            assertVatErrors(result.getErrors(Client.class));
+        }
+    }
+
+    @Test
+    void throwErrorOnSubreportErrorTest() throws IOException, InvalidFormatException {
+        final ReportLoader loader = new ReportLoader(filePath, Invoice.REPORT_NAME);
+        try {
+            assertThrows(RuntimeException.class, () -> loader.bindForClass(Invoice.class, ReportLoaderErrorTreatment.THROW_ERROR));
+        } finally {
+            loader.close();
+        }
+    }
+
+    private static ReportLoaderResult load(ReportLoaderErrorTreatment errorTreatment, boolean streaming) throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = streaming ? ReportLoader.streaming(filePath, Invoice.REPORT_NAME) : new ReportLoader(filePath, Invoice.REPORT_NAME);
+        try {
+            return loader.bindForClass(Invoice.class, errorTreatment).getLoaderResult();
+        } finally {
+            loader.close();
+        }
+    }
+
+    private static List<String> expectedInvoices(boolean skipRows) {
+        final List<String> expected = new ArrayList<>();
+        for(final InvoiceRow row : invoiceRows) {
+            final boolean withVat = row.getClientVat() instanceof Integer;
+            if(withVat || !skipRows) {
+                expected.add(row.getNumber() + ";" + row.getTotal() + ";" + row.getClientName() + ";" + (withVat ? row.getClientVat() : null));
+            }
+        }
+        return expected;
+    }
+
+    private static void assertVatErrors(List<ReportLoaderError> errors) {
+        // Data rows start after the header row
+        assertEquals(Arrays.asList(2, 5), errors.stream().map(ReportLoaderError::getRowIndex).collect(Collectors.toList()));
+        for(final ReportLoaderError error : errors) {
+            assertEquals(VAT_COLUMN, (int) error.getColumnIndex());
+            assertEquals("VAT", error.getColumnTitle());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import models.CountedItem;
+import models.PricedItem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.TemplateWorkbookCache;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemplatePlanTest extends AbstractTest {
+
+    private static final List<PricedItem> pricedItems = Arrays.asList(new PricedItem("Chair", "C-1"), new PricedItem("Table", "T-22"), new PricedItem("Lamp", "L-333"));
+    private static final List<CountedItem> countedItems = Arrays.asList(new CountedItem("Chair", 4, "C-1"), new CountedItem("Table", 1, "T-22"));
+
+    private static URL templateUrl;
+
+    /**
+     * The template has a bold name column and a formula over the name in its second column.
+     */
+    @BeforeAll
+    static void createTemplate() throws IOException {
+        final String templatePath = getFilePath("ItemsTemplate.xlsx");
+        try(XSSFWorkbook template = new XSSFWorkbook()) {
+            final XSSFSheet sheet = template.createSheet("Items");
+            final Row header = sheet.createRow(0);
+            for(int i = 0; i < 3; i++) {
+                header.createCell(i).setCellValue("Header " + i);
+            }
+            final XSSFFont boldFont = template.createFont();
+            boldFont.setBold(true);
+            final XSSFCellStyle nameStyle = template.createCellStyle();
+            nameStyle.setFont(boldFont);
+            final Row templateRow = sheet.createRow(1);
+            templateRow.createCell(0).setCellStyle(nameStyle);
+            templateRow.createCell(1).setCellFormula("LEN(A2)");
+            templateRow.createCell(2);
+            try(FileOutputStream outputStream = new FileOutputStream(templatePath)) {
+                template.write(outputStream);
+            }
+        }
+        templateUrl = new File(templatePath).toURI().toURL();
+        TemplateWorkbookCache.invalidateAll();
+    }
+
+    @Test
+    void templatePlanPerReportClassTest() throws IOException, ReportEngineReflectionException {
+        // The plan of the first class is cached with the template, and must not be used for the second one
+        assertPricedItems(generatePricedItems("PricedItems.xlsx"));
+        assertCountedItems(generateCountedItems("CountedItems.xlsx"));
+        assertPricedItems(generatePricedItems("PricedItemsAgain.xlsx"));
+        assertCountedItems(generateCountedItems("CountedItemsAgain.xlsx"));
+    }
+
+    @Test
+    void templatePlanWithoutCacheTest() throws IOException, ReportEngineReflectionException {
+        TemplateWorkbookCache.setMaxSize(0);
+        try {
+            assertPricedItems(generatePricedItems("PricedItemsNotCached.xlsx"));
+            assertCountedItems(generateCountedItems("CountedItemsNotCached.xlsx"));
+        } finally {
+            TemplateWorkbookCache.setMaxSize(TemplateWorkbookCache.DEFAULT_MAX_SIZE);
+        }
+    }
+
+    private static String generatePricedItems(String fileName) throws IOException, ReportEngineReflectionException {
+        final String filePath = getFilePath(fileName);
+        final ReportGenerator generator = new ReportGenerator();
+        generator.getConfigurator(PricedItem.class, PricedItem.REPORT_NAME).setTemplateUrl(templateUrl);
+        generator.parse(pricedItems, PricedItem.REPORT_NAME, PricedItem.class).getResult().writeToPath(filePath);
+        return filePath;
+    }
+
+    private static String generateCountedItems(String fileName) throws IOException, ReportEngineReflectionException {
+        final String filePath = getFilePath(fileName);
+        final ReportGenerator generator = new ReportGenerator();
+        generator.getConfigurator(CountedItem.class, CountedItem.REPORT_NAME).setTemplateUrl(templateUrl);
+        generator.parse(countedItems, CountedItem.REPORT_NAME, CountedItem.class).getResult().writeToPath(filePath);
+        return filePath;
+    }
+
+    private static void assertPricedItems(String filePath) throws IOException {
+        try(XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+            final Sheet sheet = workbook.getSheet("Items");
+            assertEquals("Name length", sheet.getRow(0).getCell(1).getStringCellValue());
+            for(int i = 0; i < pricedItems.size(); i++) {
+                final Row row = sheet.getRow(i + 1);
+                assertEquals(pricedItems.get(i).getName(), row.getCell(0).getStringCellValue());
+                assertTrue(((XSSFCellStyle) row.getCell(0).getCellStyle()).getFont().getBold());
+                assertEquals(CellType.FORMULA, row.getCell(1).getCellTypeEnum());
+                assertEquals("LEN(A" + (i + 2) + ")", row.getCell(1).getCellFormula());
+                assertEquals(pricedItems.get(i).getCode(), row.getCell(2).getStringCellValue());
+            }
+        }
+    }
+
+    private static void assertCountedItems(String filePath) throws IOException {
+        try(XSSFWorkbook workbook = new XSSFWorkbook(filePath)) {
+            final Sheet sheet = workbook.getSheet("Items");
+            assertEquals("Quantity", sheet.getRow(0).getCell(1).getStringCellValue());
+            for(int i = 0; i < countedItems.size(); i++) {
+                final Row row = sheet.getRow(i + 1);
+                assertEquals(countedItems.get(i).getName(), row.getCell(0).getStringCellValue());
+                assertTrue(((XSSFCellStyle) row.getCell(0).getCellStyle()).getFont().getBold());
+                assertEquals(CellType.NUMERIC, row.getCell(1).getCellTypeEnum());
+                assertEquals(countedItems.get(i).getQuantity(), row.getCell(1).getNumericCellValue(), 0);
+                assertEquals(countedItems.get(i).getCode(), row.getCell(2).getStringCellValue());
+            }
+        }
+    }
+}
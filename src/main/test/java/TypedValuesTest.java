@@ -0,0 +1,115 @@
+import models.TypedValues;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.greports.engine.ReportGenerator;
+import org.greports.engine.ReportLoader;
+import org.greports.engine.ReportLoader.ReportLoaderErrorTreatment;
+import org.greports.engine.ReportLoaderResult;
+import org.greports.exceptions.ReportEngineReflectionException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TypedValuesTest extends AbstractTest {
+
+    private static final int VALUES_COUNT = 3;
+
+    private static List<TypedValues> values;
+    private static String filePath;
+
+    /**
+     * Values which are represented exactly by the doubles of the numeric cells, with negative values in the second row.
+     */
+    @BeforeAll
+    static void generateValues() throws IOException, ReportEngineReflectionException {
+        values = new ArrayList<>();
+        final Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2020, Calendar.MARCH, 15);
+        for(int i = 0; i < VALUES_COUNT; i++) {
+            final int sign = i % 2 == 0 ? 1 : -1;
+            values.add(new TypedValues()
+                .setPrimitiveBoolean(i % 2 == 0)
+                .setBoxedBoolean(i % 2 != 0)
+                .setPrimitiveChar((char) ('A' + i))
+                .setBoxedChar((char) ('a' + i))
+                .setPrimitiveByte((byte) (sign * (100 + i)))
+                .setBoxedByte((byte) (sign * (10 + i)))
+                .setPrimitiveShort((short) (sign * (30000 + i)))
+                .setBoxedShort((short) (sign * (300 + i)))
+                .setPrimitiveInt(sign * (2000000000 + i))
+                .setBoxedInt(sign * (20000 + i))
+                .setPrimitiveLong(sign * (9000000000000L + i))
+                .setBoxedLong(sign * (90000L + i))
+                .setPrimitiveFloat(sign * (1.5f + i))
+                .setBoxedFloat(sign * (0.25f + i))
+                .setPrimitiveDouble(sign * (1234.125 + i))
+                .setBoxedDouble(sign * (0.5 + i))
+                .setString("Value " + i)
+                .setDate(calendar.getTime())
+                .setBigDecimal(new BigDecimal("12.25").add(BigDecimal.valueOf(i)).multiply(BigDecimal.valueOf(sign)))
+                .setBigInteger(BigInteger.valueOf(sign * (123456789L + i)))
+            );
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        filePath = getFilePath("TypedValues.xlsx");
+        new ReportGenerator().parse(values, TypedValues.REPORT_NAME, TypedValues.class).getResult().writeToPath(filePath);
+    }
+
+    @Test
+    void loadTypedValuesTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        assertTypedValues(load(false));
+    }
+
+    @Test
+    void loadStreamingTypedValuesTest() throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        assertTypedValues(load(true));
+    }
+
+    private static ReportLoaderResult load(boolean streaming) throws IOException, InvalidFormatException, ReportEngineReflectionException {
+        final ReportLoader loader = streaming ? ReportLoader.streaming(filePath, TypedValues.REPORT_NAME) : new ReportLoader(filePath, TypedValues.REPORT_NAME);
+        try {
+            return loader.bindForClass(TypedValues.class, ReportLoaderErrorTreatment.SKIP_COLUMN_ON_ERROR).getLoaderResult();
+        } finally {
+            loader.close();
+        }
+    }
+
+    private static void assertTypedValues(ReportLoaderResult result) {
+        assertFalse(result.hasErrors());
+        final List<TypedValues> loadedValues = result.getResult(TypedValues.class);
+        assertEquals(VALUES_COUNT, loadedValues.size());
+        for(int i = 0; i < VALUES_COUNT; i++) {
+            final TypedValues expected = values.get(i);
+            final TypedValues actual = loadedValues.get(i);
+            assertEquals(expected.isPrimitiveBoolean(), actual.isPrimitiveBoolean());
+            assertEquals(expected.getBoxedBoolean(), actual.getBoxedBoolean());
+            assertEquals(expected.getPrimitiveChar(), actual.getPrimitiveChar());
+            assertEquals(expected.getBoxedChar(), actual.getBoxedChar());
+            assertEquals(expected.getPrimitiveByte(), actual.getPrimitiveByte());
+            assertEquals(expected.getBoxedByte(), actual.getBoxedByte());
+            assertEquals(expected.getPrimitiveShort(), actual.getPrimitiveShort());
+            assertEquals(expected.getBoxedShort(), actual.getBoxedShort());
+            assertEquals(expected.getPrimitiveInt(), actual.getPrimitiveInt());
+            assertEquals(expected.getBoxedInt(), actual.getBoxedInt());
+            assertEquals(expected.getPrimitiveLong(), actual.getPrimitiveLong());
+            assertEquals(expected.getBoxedLong(), actual.getBoxedLong());
+            assertEquals(expected.getPrimitiveFloat(), actual.getPrimitiveFloat());
+            assertEquals(expected.getBoxedFloat(), actual.getBoxedFloat());
+            assertEquals(expected.getPrimitiveDouble(), actual.getPrimitiveDouble());
+            assertEquals(expected.getBoxedDouble(), actual.getBoxedDouble());
+            assertEquals(expected.getString(), actual.getString());
+            assertEquals(expected.getDate(), actual.getDate());
+            assertEquals(0, expected.getBigDecimal().compareTo(actual.getBigDecimal()), actual.getBigDecimal().toString());
+            assertEquals(expected.getBigInteger(), actual.getBigInteger());
+        }
+    }
+}
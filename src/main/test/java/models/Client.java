@@ -0,0 +1,39 @@
+package models;
+
+import org.greports.annotations.Column;
+
+/**
+ * Subreport of {@link Invoice}.
+ */
+public class Client {
+
+    @Column(reportName = Invoice.REPORT_NAME, position = 1, title = "Client")
+    private String name;
+    @Column(reportName = Invoice.REPORT_NAME, position = 2, title = "VAT")
+    private Integer vat;
+
+    private Client() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public Client setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Integer getVat() {
+        return vat;
+    }
+
+    public Client setVat(Integer vat) {
+        this.vat = vat;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return name + ";" + vat;
+    }
+}
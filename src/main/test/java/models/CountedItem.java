@@ -0,0 +1,58 @@
+package models;
+
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+
+/**
+ * Report with the same name and sheet as {@link PricedItem}, whose second column is a plain value.
+ */
+@Report(reportConfigurations = {
+    @Configuration(reportName = CountedItem.REPORT_NAME, sheetName = "Items")
+})
+public class CountedItem {
+
+    public static final String REPORT_NAME = "Items";
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Name")
+    private String name;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Quantity")
+    private int quantity;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Code")
+    private String code;
+
+    private CountedItem() {}
+
+    public CountedItem(String name, int quantity, String code) {
+        this.name = name;
+        this.quantity = quantity;
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CountedItem setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public CountedItem setQuantity(int quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public CountedItem setCode(String code) {
+        this.code = code;
+        return this;
+    }
+}
@@ -0,0 +1,58 @@
+package models;
+
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+import org.greports.annotations.Subreport;
+
+/**
+ * Loads the sheet written by {@link InvoiceRow}, with the columns of the client bound to a subreport.
+ */
+@Report(reportConfigurations = {
+    @Configuration(reportName = Invoice.REPORT_NAME, sheetName = "Invoices")
+})
+public class Invoice {
+
+    public static final String REPORT_NAME = "Invoices";
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Number")
+    private String number;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Total")
+    private double total;
+    @Subreport(reportName = REPORT_NAME, position = 3)
+    private Client client;
+
+    private Invoice() {}
+
+    public String getNumber() {
+        return number;
+    }
+
+    public Invoice setNumber(String number) {
+        this.number = number;
+        return this;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public Invoice setTotal(double total) {
+        this.total = total;
+        return this;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public Invoice setClient(Client client) {
+        this.client = client;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return number + ";" + total + ";" + client;
+    }
+}
@@ -0,0 +1,49 @@
+package models;
+
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+
+/**
+ * Row of the invoices sheet loaded by {@link Invoice}, with the columns of the client in the same class.
+ * The VAT number of the client is written as a text for the clients without one.
+ */
+@Report(reportConfigurations = {
+    @Configuration(reportName = InvoiceRow.REPORT_NAME, sheetName = "Invoices")
+})
+public class InvoiceRow {
+
+    public static final String REPORT_NAME = Invoice.REPORT_NAME;
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Number")
+    private final String number;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Total")
+    private final double total;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Client")
+    private final String clientName;
+    @Column(reportName = REPORT_NAME, position = 4, title = "VAT")
+    private final Object clientVat;
+
+    public InvoiceRow(String number, double total, String clientName, Object clientVat) {
+        this.number = number;
+        this.total = total;
+        this.clientName = clientName;
+        this.clientVat = clientVat;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public Object getClientVat() {
+        return clientVat;
+    }
+}
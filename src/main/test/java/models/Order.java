@@ -0,0 +1,183 @@
+package models;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+import org.greports.annotations.SpecialRow;
+import org.greports.annotations.SpecialRowCell;
+import org.greports.engine.ValueType;
+import org.greports.interfaces.collectedvalues.CollectedFormulaValues;
+import org.greports.interfaces.group.GroupedRows;
+import org.greports.positioning.VerticalRange;
+import org.greports.styles.interfaces.StripedRows;
+import org.greports.styles.interfaces.StyledReport;
+import org.greports.styles.stylesbuilders.ReportStylesBuilder;
+
+import java.awt.*;
+import java.formats.Formats;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+@Report(reportConfigurations = {
+    @Configuration(reportName = Order.REPORT_NAME, sheetName = "Orders", precomputedAggregates = true, specialRows = {
+        @SpecialRow(rowIndex = Integer.MAX_VALUE, cells = {
+            @SpecialRowCell(targetId = "id", valueType = ValueType.FORMULA, value = "COUNT(id)", format = Formats.INTEGER),
+            @SpecialRowCell(targetId = "customer", value = "Total"),
+            @SpecialRowCell(targetId = "quantity", valueType = ValueType.FORMULA, value = "SUM(quantity)", format = Formats.INTEGER),
+            @SpecialRowCell(targetId = "amount", valueType = ValueType.FORMULA, value = "SUM(amount)", format = Formats.FLOAT_2_DEC)
+        }),
+        @SpecialRow(rowIndex = Integer.MAX_VALUE, cells = {
+            @SpecialRowCell(targetId = "customer", value = "Average"),
+            @SpecialRowCell(targetId = "quantity", valueType = ValueType.FORMULA, value = "MAX(quantity)", format = Formats.INTEGER),
+            @SpecialRowCell(targetId = "amount", valueType = ValueType.FORMULA, value = "AVERAGE(amount)", format = Formats.FLOAT_2_DEC),
+            @SpecialRowCell(targetId = "date", valueType = ValueType.FORMULA, value = "MIN(date)", format = Formats.DATE)
+        }),
+        @SpecialRow(rowIndex = Integer.MAX_VALUE, cells = {
+            @SpecialRowCell(targetId = "customer", value = "Multiple units"),
+            @SpecialRowCell(targetId = "amount", valueType = ValueType.COLLECTED_FORMULA_VALUE, value = "SUM(amount)", format = Formats.FLOAT_2_DEC)
+        })
+    })
+})
+public class Order implements CollectedFormulaValues, GroupedRows, StripedRows, StyledReport {
+
+    public static final String REPORT_NAME = "Orders";
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Id", format = Formats.INTEGER, id = "id")
+    private int id;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Customer", format = Formats.TEXT, id = "customer")
+    private String customer;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Quantity", format = Formats.INTEGER, id = "quantity")
+    private int quantity;
+    @Column(reportName = REPORT_NAME, position = 4, title = "Amount", format = Formats.FLOAT_2_DEC, id = "amount")
+    private double amount;
+    @Column(reportName = REPORT_NAME, position = 5, title = "Date", format = Formats.DATE, id = "date")
+    private Date date;
+
+    private Order() {}
+
+    public Order(int id, String customer, int quantity, double amount, Date date) {
+        this.id = id;
+        this.customer = customer;
+        this.quantity = quantity;
+        this.amount = amount;
+        this.date = date;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Order setId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public Order setCustomer(String customer) {
+        this.customer = customer;
+        return this;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Order setQuantity(int quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public Order setAmount(double amount) {
+        this.amount = amount;
+        return this;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public Order setDate(Date date) {
+        this.date = date;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return id + ";" + customer + ";" + quantity + ";" + amount + ";" + (date != null ? date.getTime() : null);
+    }
+
+    /**
+     * Orders of more than one unit are collected by the last special row.
+     */
+    @Override
+    public Map<Pair<String, String>, BooleanSupplier> isCollectedFormulaValue() {
+        Map<Pair<String, String>, BooleanSupplier> map = new HashMap<>();
+        map.put(Pair.of(REPORT_NAME, "amount"), () -> this.quantity > 1);
+        return map;
+    }
+
+    /**
+     * Groups of four rows every six rows, so the groups cross the chunks of a pull-based input.
+     */
+    @Override
+    public Map<String, Predicate<Integer>> isGroupStartRow() {
+        Map<String, Predicate<Integer>> map = new HashMap<>();
+        map.put(REPORT_NAME, index -> index % 6 == 0);
+        return map;
+    }
+
+    @Override
+    public Map<String, Predicate<Integer>> isGroupEndRow() {
+        Map<String, Predicate<Integer>> map = new HashMap<>();
+        map.put(REPORT_NAME, index -> index % 6 == 3);
+        return map;
+    }
+
+    @Override
+    public Map<String, BooleanSupplier> isRowCollapsedByDefault() {
+        Map<String, BooleanSupplier> map = new HashMap<>();
+        map.put(REPORT_NAME, () -> true);
+        return map;
+    }
+
+    @Override
+    public Map<String, StripedRowsIndex> getStripedRowsIndex() {
+        Map<String, StripedRowsIndex> map = new HashMap<>();
+        map.put(REPORT_NAME, StripedRowsIndex.ODD);
+        return map;
+    }
+
+    @Override
+    public Map<String, Color> getStripedRowsColor() {
+        Map<String, Color> map = new HashMap<>();
+        map.put(REPORT_NAME, new Color(235, 235, 235));
+        return map;
+    }
+
+    @Override
+    public Map<String, ReportStylesBuilder> getReportStyles(int rowsCount) {
+        Map<String, ReportStylesBuilder> map = new HashMap<>();
+        map.put(REPORT_NAME, new ReportStylesBuilder()
+            .newStyle(new VerticalRange(0, null), false)
+                .setBorder(BorderStyle.THIN)
+                .setBorderColor(new Color(0, 0, 0))
+            .newStyle(new VerticalRange(0, 0), true)
+                .setForegroundColor(new Color(82, 78, 231))
+                .setFontColor(new Color(255, 255, 255))
+                .setBoldFont(true)
+        );
+        return map;
+    }
+}
@@ -0,0 +1,55 @@
+package models;
+
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+import org.greports.engine.ValueType;
+
+@Report(reportConfigurations = {
+    @Configuration(reportName = PricedItem.REPORT_NAME, sheetName = "Items")
+})
+public class PricedItem {
+
+    public static final String REPORT_NAME = "Items";
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Name")
+    private String name;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Name length", valueType = ValueType.TEMPLATED_FORMULA)
+    private Integer nameLength;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Code")
+    private String code;
+
+    private PricedItem() {}
+
+    public PricedItem(String name, String code) {
+        this.name = name;
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PricedItem setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Integer getNameLength() {
+        return nameLength;
+    }
+
+    public PricedItem setNameLength(Integer nameLength) {
+        this.nameLength = nameLength;
+        return this;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public PricedItem setCode(String code) {
+        this.code = code;
+        return this;
+    }
+}
@@ -0,0 +1,242 @@
+package models;
+
+import org.greports.annotations.Column;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+
+import java.formats.Formats;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+/**
+ * Report with a column of every type read by the loader, written and loaded with the same class.
+ */
+@Report(reportConfigurations = {
+    @Configuration(reportName = TypedValues.REPORT_NAME, sheetName = "Values")
+})
+public class TypedValues {
+
+    public static final String REPORT_NAME = "Typed values";
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Primitive boolean")
+    private boolean primitiveBoolean;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Boxed boolean")
+    private Boolean boxedBoolean;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Primitive char")
+    private char primitiveChar;
+    @Column(reportName = REPORT_NAME, position = 4, title = "Boxed char")
+    private Character boxedChar;
+    @Column(reportName = REPORT_NAME, position = 5, title = "Primitive byte")
+    private byte primitiveByte;
+    @Column(reportName = REPORT_NAME, position = 6, title = "Boxed byte")
+    private Byte boxedByte;
+    @Column(reportName = REPORT_NAME, position = 7, title = "Primitive short")
+    private short primitiveShort;
+    @Column(reportName = REPORT_NAME, position = 8, title = "Boxed short")
+    private Short boxedShort;
+    @Column(reportName = REPORT_NAME, position = 9, title = "Primitive int")
+    private int primitiveInt;
+    @Column(reportName = REPORT_NAME, position = 10, title = "Boxed int")
+    private Integer boxedInt;
+    @Column(reportName = REPORT_NAME, position = 11, title = "Primitive long")
+    private long primitiveLong;
+    @Column(reportName = REPORT_NAME, position = 12, title = "Boxed long")
+    private Long boxedLong;
+    @Column(reportName = REPORT_NAME, position = 13, title = "Primitive float")
+    private float primitiveFloat;
+    @Column(reportName = REPORT_NAME, position = 14, title = "Boxed float")
+    private Float boxedFloat;
+    @Column(reportName = REPORT_NAME, position = 15, title = "Primitive double")
+    private double primitiveDouble;
+    @Column(reportName = REPORT_NAME, position = 16, title = "Boxed double")
+    private Double boxedDouble;
+    @Column(reportName = REPORT_NAME, position = 17, title = "String")
+    private String string;
+    @Column(reportName = REPORT_NAME, position = 18, title = "Date", format = Formats.DATE)
+    private Date date;
+    @Column(reportName = REPORT_NAME, position = 19, title = "Big decimal")
+    private BigDecimal bigDecimal;
+    @Column(reportName = REPORT_NAME, position = 20, title = "Big integer")
+    private BigInteger bigInteger;
+
+    public boolean isPrimitiveBoolean() {
+        return primitiveBoolean;
+    }
+
+    public TypedValues setPrimitiveBoolean(boolean primitiveBoolean) {
+        this.primitiveBoolean = primitiveBoolean;
+        return this;
+    }
+
+    public Boolean getBoxedBoolean() {
+        return boxedBoolean;
+    }
+
+    public TypedValues setBoxedBoolean(Boolean boxedBoolean) {
+        this.boxedBoolean = boxedBoolean;
+        return this;
+    }
+
+    public char getPrimitiveChar() {
+        return primitiveChar;
+    }
+
+    public TypedValues setPrimitiveChar(char primitiveChar) {
+        this.primitiveChar = primitiveChar;
+        return this;
+    }
+
+    public Character getBoxedChar() {
+        return boxedChar;
+    }
+
+    public TypedValues setBoxedChar(Character boxedChar) {
+        this.boxedChar = boxedChar;
+        return this;
+    }
+
+    public byte getPrimitiveByte() {
+        return primitiveByte;
+    }
+
+    public TypedValues setPrimitiveByte(byte primitiveByte) {
+        this.primitiveByte = primitiveByte;
+        return this;
+    }
+
+    public Byte getBoxedByte() {
+        return boxedByte;
+    }
+
+    public TypedValues setBoxedByte(Byte boxedByte) {
+        this.boxedByte = boxedByte;
+        return this;
+    }
+
+    public short getPrimitiveShort() {
+        return primitiveShort;
+    }
+
+    public TypedValues setPrimitiveShort(short primitiveShort) {
+        this.primitiveShort = primitiveShort;
+        return this;
+    }
+
+    public Short getBoxedShort() {
+        return boxedShort;
+    }
+
+    public TypedValues setBoxedShort(Short boxedShort) {
+        this.boxedShort = boxedShort;
+        return this;
+    }
+
+    public int getPrimitiveInt() {
+        return primitiveInt;
+    }
+
+    public TypedValues setPrimitiveInt(int primitiveInt) {
+        this.primitiveInt = primitiveInt;
+        return this;
+    }
+
+    public Integer getBoxedInt() {
+        return boxedInt;
+    }
+
+    public TypedValues setBoxedInt(Integer boxedInt) {
+        this.boxedInt = boxedInt;
+        return this;
+    }
+
+    public long getPrimitiveLong() {
+        return primitiveLong;
+    }
+
+    public TypedValues setPrimitiveLong(long primitiveLong) {
+        this.primitiveLong = primitiveLong;
+        return this;
+    }
+
+    public Long getBoxedLong() {
+        return boxedLong;
+    }
+
+    public TypedValues setBoxedLong(Long boxedLong) {
+        this.boxedLong = boxedLong;
+        return this;
+    }
+
+    public float getPrimitiveFloat() {
+        return primitiveFloat;
+    }
+
+    public TypedValues setPrimitiveFloat(float primitiveFloat) {
+        this.primitiveFloat = primitiveFloat;
+        return this;
+    }
+
+    public Float getBoxedFloat() {
+        return boxedFloat;
+    }
+
+    public TypedValues setBoxedFloat(Float boxedFloat) {
+        this.boxedFloat = boxedFloat;
+        return this;
+    }
+
+    public double getPrimitiveDouble() {
+        return primitiveDouble;
+    }
+
+    public TypedValues setPrimitiveDouble(double primitiveDouble) {
+        this.primitiveDouble = primitiveDouble;
+        return this;
+    }
+
+    public Double getBoxedDouble() {
+        return boxedDouble;
+    }
+
+    public TypedValues setBoxedDouble(Double boxedDouble) {
+        this.boxedDouble = boxedDouble;
+        return this;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public TypedValues setString(String string) {
+        this.string = string;
+        return this;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public TypedValues setDate(Date date) {
+        this.date = date;
+        return this;
+    }
+
+    public BigDecimal getBigDecimal() {
+        return bigDecimal;
+    }
+
+    public TypedValues setBigDecimal(BigDecimal bigDecimal) {
+        this.bigDecimal = bigDecimal;
+        return this;
+    }
+
+    public BigInteger getBigInteger() {
+        return bigInteger;
+    }
+
+    public TypedValues setBigInteger(BigInteger bigInteger) {
+        this.bigInteger = bigInteger;
+        return this;
+    }
+}
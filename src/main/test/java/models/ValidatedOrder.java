@@ -0,0 +1,95 @@
+package models;
+
+import org.greports.annotations.CellValidator;
+import org.greports.annotations.Column;
+import org.greports.annotations.ColumnValidator;
+import org.greports.annotations.Configuration;
+import org.greports.annotations.Report;
+import org.greports.annotations.SpecialRow;
+import org.greports.validators.UniqueValueValidator;
+import validators.MaxValueValidator;
+
+import java.util.Date;
+
+/**
+ * Loads the sheet of {@link Order} with validations which fail for some of its rows.
+ * The special rows of the orders are declared so they are not loaded as data rows.
+ */
+@Report(reportConfigurations = {
+    @Configuration(reportName = ValidatedOrder.REPORT_NAME, sheetName = "Orders", specialRows = {
+        @SpecialRow(rowIndex = Integer.MAX_VALUE),
+        @SpecialRow(rowIndex = Integer.MAX_VALUE),
+        @SpecialRow(rowIndex = Integer.MAX_VALUE)
+    })
+})
+public class ValidatedOrder {
+
+    public static final String REPORT_NAME = Order.REPORT_NAME;
+
+    @Column(reportName = REPORT_NAME, position = 1, title = "Id")
+    private int id;
+    @Column(reportName = REPORT_NAME, position = 2, title = "Customer", columnValidators = {
+        @ColumnValidator(validatorClass = UniqueValueValidator.class, errorMessage = "Repeated customer")
+    })
+    private String customer;
+    @Column(reportName = REPORT_NAME, position = 3, title = "Quantity", cellValidators = {
+        @CellValidator(validatorClass = MaxValueValidator.class, value = "3", errorMessage = "Quantity greater than {0}")
+    })
+    private Integer quantity;
+    @Column(reportName = REPORT_NAME, position = 4, title = "Amount")
+    private double amount;
+    @Column(reportName = REPORT_NAME, position = 5, title = "Date")
+    private Date date;
+
+    private ValidatedOrder() {}
+
+    public int getId() {
+        return id;
+    }
+
+    public ValidatedOrder setId(int id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public ValidatedOrder setCustomer(String customer) {
+        this.customer = customer;
+        return this;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public ValidatedOrder setQuantity(Integer quantity) {
+        this.quantity = quantity;
+        return this;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public ValidatedOrder setAmount(double amount) {
+        this.amount = amount;
+        return this;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public ValidatedOrder setDate(Date date) {
+        this.date = date;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return id + ";" + customer + ";" + quantity + ";" + amount + ";" + (date != null ? date.getTime() : null);
+    }
+}
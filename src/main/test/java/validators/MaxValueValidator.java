@@ -0,0 +1,18 @@
+package validators;
+
+import org.greports.validators.AbstractCellValidator;
+
+/**
+ * Validates that a number is not greater than the number given as parameter.
+ */
+public class MaxValueValidator extends AbstractCellValidator {
+
+    public MaxValueValidator(String params) {
+        super(params);
+    }
+
+    @Override
+    public boolean isValid(Object object) {
+        return object instanceof Number && ((Number) object).doubleValue() <= Double.parseDouble(params);
+    }
+}